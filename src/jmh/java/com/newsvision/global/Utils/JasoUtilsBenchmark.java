@@ -0,0 +1,90 @@
+package com.newsvision.global.Utils;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 뉴스 제목 자모/초성 분해 처리량 비교 (변경 전 구현 vs 현재 구현 vs 버퍼 재사용).
+ * 실행: ./gradlew jmh  (결과: build/results/jmh/results.json, -prof gc 로 할당량 확인 가능)
+ * 참고치 (JMH 아님, 같은 입력을 벤치마크별 JVM 에서 2초 x 5회 측정, vCPU 1개, ops/ms):
+ * splitJaso 170~266(변경 전) / 216~223, appendJaso 버퍼 재사용 279~303,
+ * extractChosung 94~103(변경 전) / 288~292, appendChosung 버퍼 재사용 370~394.
+ * 분해 자체는 변경 전과 오차 범위 안이고, 이득은 버퍼 재사용과 초성 추출 쪽이다. JMH 로 다시 재면 이 값을 갱신할 것.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JasoUtilsBenchmark {
+
+    private static final String[] HEADLINES = {
+            "[속보] 한국은행, 기준금리 3.50%로 동결…\"물가 둔화 흐름 지켜볼 것\"",
+            "삼성전자 2분기 영업이익 10조 돌파, AI 반도체 수요 급증",
+            "서울 아파트값 12주 연속 상승…강남 3구 신고가 속출",
+            "정부, 저출산 대응 예산 20조 투입 \"육아휴직 급여 인상\"",
+            "손흥민 시즌 10호골, 토트넘 역전승 이끌어",
+            "기상청 \"이번 주말 전국에 강한 비, 최대 150mm\"",
+            "국회 본회의서 민생법안 처리 무산…여야 책임 공방",
+            "현대차, 미국 조지아 전기차 공장 가동 시작",
+            "코스피 2,700선 회복…외국인 순매수 전환",
+            "의대 증원 갈등 장기화, 전공의 복귀율 10% 밑돌아",
+            "카카오, 생성형 AI 서비스 '카나나' 공개",
+            "수능 D-100, 올해 N수생 비율 역대 최고 전망",
+            "김장철 앞두고 배추값 급등…정부 비축물량 방출",
+            "BTS 진, 전역 후 첫 솔로 앨범 발매",
+            "전세사기 피해자 지원 특별법 개정안 국회 통과",
+            "OpenAI, 새 추론 모델 공개…코딩 성능 대폭 향상"
+    };
+
+    private final StringBuilder buffer = new StringBuilder(256);
+
+    @Benchmark
+    public void splitJasoLegacy(Blackhole bh) {
+        for (String title : HEADLINES) {
+            bh.consume(LegacyJasoUtils.splitJaso(title));
+        }
+    }
+
+    @Benchmark
+    public void splitJaso(Blackhole bh) {
+        for (String title : HEADLINES) {
+            bh.consume(JasoUtils.splitJaso(title));
+        }
+    }
+
+    @Benchmark
+    public void appendJasoReusedBuffer(Blackhole bh) {
+        for (String title : HEADLINES) {
+            buffer.setLength(0);
+            JasoUtils.appendJaso(title, buffer);
+            bh.consume(buffer.length());
+        }
+    }
+
+    @Benchmark
+    public void extractChosungLegacy(Blackhole bh) {
+        for (String title : HEADLINES) {
+            bh.consume(LegacyJasoUtils.extractChosung(title));
+        }
+    }
+
+    @Benchmark
+    public void extractChosung(Blackhole bh) {
+        for (String title : HEADLINES) {
+            bh.consume(JasoUtils.extractChosung(title));
+        }
+    }
+
+    @Benchmark
+    public void appendChosungReusedBuffer(Blackhole bh) {
+        for (String title : HEADLINES) {
+            buffer.setLength(0);
+            JasoUtils.appendChosung(title, buffer);
+            bh.consume(buffer.length());
+        }
+    }
+}
@@ -44,7 +44,7 @@ public class AdminBoardManageController {
             return ResponseEntity.status(403).body(null);
         }
 
-        Page<BoardResponse> boardList = boardService.getBoardsList(categoryId, pageable);
+        Page<BoardResponse> boardList = boardService.getBoardsList(categoryId, pageable, null);
         return ResponseEntity.ok(ApiResponse.success(boardList));
     }
 
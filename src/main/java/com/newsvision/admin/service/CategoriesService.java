@@ -4,6 +4,8 @@ import com.newsvision.admin.dto.response.CategoriesResponse;
 import com.newsvision.board.repository.BoardRepository;
 import com.newsvision.category.Categories;
 import com.newsvision.category.CategoryRepository;
+import com.newsvision.global.cache.CacheType;
+import com.newsvision.global.cache.TwoLevelCache;
 import com.newsvision.news.repository.NewsRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +22,7 @@ public class CategoriesService {
     private final CategoryRepository categoriesRepository;
     private final NewsRepository newsRepository;
     private final BoardRepository boardRepository;
+    private final TwoLevelCache twoLevelCache;
 
     public List<CategoriesResponse> getAllCategories() {
         return categoriesRepository.findAll().stream()
@@ -41,14 +44,18 @@ public class CategoriesService {
 
     public Categories addCategory(String name) {
         Categories category = Categories.builder().name(name).build();
-        return categoriesRepository.save(category);
+        Categories saved = categoriesRepository.save(category);
+        twoLevelCache.evictAll(CacheType.CATEGORIES);
+        return saved;
     }
 
     public Categories updateCategory(Long id, String name) {
         Categories category = categoriesRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("해당 카테고리 없음: " + id));
         category.setName(name);
-        return categoriesRepository.save(category);
+        Categories updated = categoriesRepository.save(category);
+        twoLevelCache.evictAll(CacheType.CATEGORIES);
+        return updated;
     }
 
     @Transactional
@@ -59,5 +66,6 @@ public class CategoriesService {
         newsRepository.updateCategoryIdToDefault(category.getId(), 1L);
         boardRepository.updateCategoryIdToDefault(category.getId(), 1L);
         categoriesRepository.delete(category);
+        twoLevelCache.evictAll(CacheType.CATEGORIES);
     }
 }
\ No newline at end of file
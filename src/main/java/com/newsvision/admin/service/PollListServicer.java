@@ -1,9 +1,13 @@
 package com.newsvision.admin.service;
 
 import com.newsvision.global.Utils.TimeUtil;
+import com.newsvision.global.cache.CacheType;
+import com.newsvision.global.cache.TwoLevelCache;
 import com.newsvision.poll.dto.response.PollResponse;
 import com.newsvision.poll.repository.PollRepository;
+import com.newsvision.news.event.NewsMainChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,6 +19,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PollListServicer {
     private final PollRepository pollRepository;
+    private final TwoLevelCache twoLevelCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<PollResponse> getAllPolls() {
         return pollRepository.findAll().stream()
@@ -47,5 +53,7 @@ public class PollListServicer {
             throw new IllegalArgumentException("해당 ID의 투표가 존재하지 않습니다: " + pollId);
         }
         pollRepository.deleteById(pollId);
+        twoLevelCache.evictAll(CacheType.POLL_LIST);
+        eventPublisher.publishEvent(new NewsMainChangedEvent());
     }
 }
@@ -4,6 +4,7 @@ import com.newsvision.board.dto.response.*;
 import com.newsvision.board.entity.Board;
 import com.newsvision.board.service.BoardLikeService;
 import com.newsvision.board.service.BoardService;
+import com.newsvision.global.cursor.CursorResponse;
 import com.newsvision.global.exception.ApiResponse;
 import com.newsvision.global.security.CustomUserDetails;
 import com.newsvision.user.service.UserService;
@@ -38,12 +39,26 @@ public class BoardController {
     @GetMapping
     public ResponseEntity<ApiResponse<Page<BoardResponse>>> getBoards(
             @RequestParam(required = false) Long categoryId,
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
-        Page<BoardResponse> boards = boardService.getBoardsList(categoryId, pageable);
+        Long userId = userDetails != null ? userDetails.getId() : null;
+        Page<BoardResponse> boards = boardService.getBoardsList(categoryId, pageable, userId);
         return ResponseEntity.ok(ApiResponse.success(boards));
     }
 
+    @Operation(summary = "커뮤니티 글 목록 조회 (커서)", description = "createdAt, id 커서 기반 무한스크롤 조회. 첫 페이지는 cursor 없이 요청합니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<BoardResponse>>> getBoardsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        Long userId = userDetails != null ? userDetails.getId() : null;
+        return ResponseEntity.ok(ApiResponse.success(boardService.getBoardsByCursor(cursor, categoryId, size, userId)));
+    }
+
     @Operation(summary = "커뮤니티 글 상세보기", description = "특정 커뮤니티 글의 상세 정보를 조회합니다.", security = @SecurityRequirement(name = "bearerAuth"))
     @GetMapping("/{boardId}")
     public ResponseEntity<ApiResponse<BoardDetailResponse>> getBoardDetail(
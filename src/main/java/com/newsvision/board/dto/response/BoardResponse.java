@@ -23,6 +23,7 @@ public class BoardResponse {
     private Boolean isReported;
     private int likeCount;
     private int commentCount;
+    private Boolean isLike;
 
     public BoardResponse(Board board, int likeCount, int commentCount) {
         this.boardId = board.getId();
@@ -13,7 +13,10 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "boards")
+@Table(name = "boards", indexes = {
+        @Index(name = "idx_boards_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_boards_category_created_at_id", columnList = "category_id, created_at, id")
+})
 public class Board {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -30,7 +33,7 @@ public class Board {
     private User user;
     @Column(name = "image")
     private String image;
-    @Column(name = "view")
+    @Column(name = "view", updatable = false) // ViewCountAggregator 가 일괄 UPDATE 로 반영
     private int view;
     @Column(name = "news_id")
     private Long newsId;
@@ -56,8 +59,5 @@ public class Board {
     public void updateContent(String content){this.content = content;}
     public void updateCategory(Categories category){this.category = category;}
     public void updateImage(String image){this.image = image;}
-    public void updateView(int view) {
-        this.view = view;
-    }
     public void updateIsReported(Boolean isReported) { this.isReported = isReported; }
 }
@@ -0,0 +1,6 @@
+package com.newsvision.board.repository;
+
+public interface BoardCount {
+    Long getBoardId();
+    long getCount();
+}
@@ -3,11 +3,22 @@ package com.newsvision.board.repository;
 import com.newsvision.board.entity.Board;
 import com.newsvision.board.entity.BoardLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface BoardLikeRepository extends JpaRepository<BoardLike, Long> {
     boolean existsByBoardIdAndUserId(Long boardId, Long userId); // 특정 게시물과 유저의 좋아요 존재 여부 확인
     void deleteByBoardIdAndUserId(Long boardId, Long userId); // 특정 게시물과 유저의 좋아요 삭제
     int countByBoardId(Long boardId); // 특정 게시물의 좋아요 개수 Count
+
+    // 유저가 좋아요 누른 게시물 id 일괄 확인
+    @Query("SELECT bl.board.id FROM BoardLike bl WHERE bl.user.id = :userId AND bl.board.id IN :boardIds")
+    List<Long> findLikedBoardIds(@Param("userId") Long userId, @Param("boardIds") Collection<Long> boardIds);
+
+    // 게시물 목록의 좋아요 개수를 한 번에 Count
+    @Query("SELECT bl.board.id AS boardId, COUNT(bl) AS count FROM BoardLike bl WHERE bl.board.id IN :boardIds GROUP BY bl.board.id")
+    List<BoardCount> countGroupByBoardIdIn(@Param("boardIds") Collection<Long> boardIds);
 }
@@ -3,17 +3,79 @@ package com.newsvision.board.repository;
 import com.newsvision.board.entity.Board;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface BoardRepository extends JpaRepository<Board,Long> {
+    @EntityGraph(attributePaths = {"user", "user.badge"})
+    Page<Board> findAll(Pageable pageable);
+    @EntityGraph(attributePaths = {"user", "user.badge"})
     Page<Board> findByCategoryId(Long categoryId, Pageable pageable);
     Page<Board> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
+    // 커서 기반 무한스크롤 (count 쿼리 없이 Slice 반환)
+    @Query("""
+        SELECT b FROM Board b
+        WHERE b.createdAt < :createdAt
+        OR (b.createdAt = :createdAt AND b.id < :id)
+        ORDER BY b.createdAt DESC, b.id DESC
+    """)
+    @EntityGraph(attributePaths = {"user", "user.badge"})
+    Slice<Board> findSliceByCursor(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("""
+        SELECT b FROM Board b
+        WHERE b.category.id = :categoryId
+        AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id))
+        ORDER BY b.createdAt DESC, b.id DESC
+    """)
+    @EntityGraph(attributePaths = {"user", "user.badge"})
+    Slice<Board> findSliceByCategoryAndCursor(@Param("categoryId") Long categoryId, @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id, Pageable pageable);
+
+    // 검색 인덱싱용 일괄 조회 (작성자, 뱃지, 카테고리 함께 로딩)
+    @Query("""
+        SELECT b FROM Board b
+        JOIN FETCH b.user u
+        LEFT JOIN FETCH u.badge
+        LEFT JOIN FETCH b.category
+        WHERE b.id IN :ids
+    """)
+    List<Board> findAllWithUserAndCategoryByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ES 장애 시 fallback 검색, id 역순 keyset (ngram FULLTEXT 인덱스 필요, search_fulltext.sql 참고)
+    @Query(value = """
+        SELECT b.id FROM boards b
+        WHERE MATCH(b.content) AGAINST (:keyword IN BOOLEAN MODE)
+        AND b.id < :id
+        ORDER BY b.id DESC
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<Long> findIdsByFulltext(@Param("keyword") String keyword, @Param("id") Long id, @Param("limit") int limit);
+
+    @Query(value = "SELECT COUNT(*) FROM boards b WHERE MATCH(b.content) AGAINST (:keyword IN BOOLEAN MODE)", nativeQuery = true)
+    long countByFulltext(@Param("keyword") String keyword);
+
+    // 검색 인덱스 전체 재구성용 keyset 청크 조회
+    @Query("""
+        SELECT b FROM Board b
+        JOIN FETCH b.user u
+        LEFT JOIN FETCH u.badge
+        LEFT JOIN FETCH b.category
+        WHERE b.id > :lastId
+        ORDER BY b.id ASC
+    """)
+    List<Board> findChunkAfter(@Param("lastId") Long lastId, Pageable pageable);
+
     @Modifying
     @Query("UPDATE Board b SET b.category.id = :defaultId WHERE b.category.id = :categoryId")
     void updateCategoryIdToDefault(@Param("categoryId") Long categoryId, @Param("defaultId") Long defaultId);
@@ -3,12 +3,19 @@ package com.newsvision.board.repository;
 import com.newsvision.board.entity.Board;
 import com.newsvision.board.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByBoardId(Long boardId);
     int countByBoardId(Long id);
 
+    // 게시물 목록의 댓글 개수를 한 번에 Count
+    @Query("SELECT c.board.id AS boardId, COUNT(c) AS count FROM Comment c WHERE c.board.id IN :boardIds GROUP BY c.board.id")
+    List<BoardCount> countGroupByBoardIdIn(@Param("boardIds") Collection<Long> boardIds);
+
     void deleteByUserId(Long id);
 }
@@ -0,0 +1,56 @@
+package com.newsvision.board.service;
+
+import com.newsvision.board.repository.BoardCount;
+import com.newsvision.board.repository.BoardLikeRepository;
+import com.newsvision.board.repository.CommentRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록의 좋아요/댓글 수를 관계별 GROUP BY 쿼리 한 번씩으로 조회한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BoardCountService {
+    private final BoardLikeRepository boardLikeRepository;
+    private final CommentRepository commentRepository;
+
+    public Map<Long, Counts> countByBoardIds(Collection<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Long> likeCounts = toMap(boardLikeRepository.countGroupByBoardIdIn(boardIds));
+        Map<Long, Long> commentCounts = toMap(commentRepository.countGroupByBoardIdIn(boardIds));
+
+        Map<Long, Counts> result = new HashMap<>();
+        for (Long boardId : boardIds) {
+            result.put(boardId, new Counts(
+                    likeCounts.getOrDefault(boardId, 0L).intValue(),
+                    commentCounts.getOrDefault(boardId, 0L).intValue()));
+        }
+        return result;
+    }
+
+    private Map<Long, Long> toMap(List<BoardCount> counts) {
+        return counts.stream().collect(Collectors.toMap(BoardCount::getBoardId, BoardCount::getCount));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Counts {
+        public static final Counts EMPTY = new Counts(0, 0);
+
+        private final int likeCount;
+        private final int commentCount;
+    }
+}
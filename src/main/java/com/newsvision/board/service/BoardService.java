@@ -8,20 +8,26 @@ import com.newsvision.category.Categories;
 import com.newsvision.category.CategoryRepository;
 import com.newsvision.category.CategoryResponse;
 import com.newsvision.category.CategoryService;
-import com.newsvision.elasticsearch.service.BoardSearchService;
+import com.newsvision.elasticsearch.service.SearchIndexOutboxService;
 import com.newsvision.global.aws.FileUploaderService;
+import com.newsvision.global.cursor.Cursor;
+import com.newsvision.global.cursor.CursorResponse;
 import com.newsvision.global.exception.CustomException;
 import com.newsvision.global.exception.ErrorCode;
+import com.newsvision.global.view.ViewCountAggregator;
+import com.newsvision.global.view.ViewTarget;
 import com.newsvision.notice.entity.Notice;
 import com.newsvision.notice.service.NoticeService;
 import com.newsvision.user.entity.User;
-import com.newsvision.user.service.FollowService;
 import com.newsvision.user.service.UserService;
+import com.newsvision.user.service.ViewerStateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.coobird.thumbnailator.Thumbnails;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -29,6 +35,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -36,24 +43,28 @@ import java.util.List;
 @Transactional
 public class BoardService {
     private final BoardRepository boardRepository;
-    private final BoardSearchService boardSearchService;
+    private final SearchIndexOutboxService searchIndexOutboxService;
     private final UserService userService;
     private final FileUploaderService fileUploaderService;
     private final CommentService commentService;
     private final CategoryService categoryService;
     private final BoardLikeService boardLikeService;
-    private final FollowService followService;
+    private final BoardCountService boardCountService;
+    private final ViewerStateService viewerStateService;
     private final NoticeService noticeService;
+    private final ViewCountAggregator viewCountAggregator;
 
     private final BoardLikeRepository boardLikeRepository;
     private final CategoryRepository categoryRepository;
 
+    private static final int MAX_CURSOR_SIZE = 50;
+
     public Board findById(Long boardId) {
         return boardRepository.findById(boardId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
     }
 
-    public Page<BoardResponse> getBoardsList(Long categoryId, Pageable pageable) {
+    public Page<BoardResponse> getBoardsList(Long categoryId, Pageable pageable, Long userId) {
         Page<Board> boardPage;
         if (categoryId != null) {
             log.info("특정 카테고리 게시글 조회 - categoryId: {}", categoryId);
@@ -63,19 +74,48 @@ public class BoardService {
             boardPage = boardRepository.findAll(pageable);
         }
 
-        return boardPage.map(board -> {
-            int likeCount = boardLikeService.countByBoardId(board.getId());
-            int commentCount = commentService.countByBoardId(board.getId());
-            return new BoardResponse(board, likeCount, commentCount);
-        });
+        List<Long> boardIds = boardPage.getContent().stream().map(Board::getId).toList();
+        Map<Long, BoardCountService.Counts> counts = boardCountService.countByBoardIds(boardIds);
+        ViewerStateService.ViewerState viewerState = viewerStateService.resolveBoards(userId, boardIds, List.of());
+        return boardPage.map(board -> toBoardResponse(board, counts, viewerState));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorResponse<BoardResponse> getBoardsByCursor(String cursor, Long categoryId, int size, Long userId) {
+        Cursor position = Cursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_CURSOR_SIZE));
+        Slice<Board> slice = categoryId != null
+                ? boardRepository.findSliceByCategoryAndCursor(categoryId, position.getCreatedAt(), position.getId(), limit)
+                : boardRepository.findSliceByCursor(position.getCreatedAt(), position.getId(), limit);
+
+        List<Board> content = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            Board last = content.get(content.size() - 1);
+            nextCursor = new Cursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        List<Long> boardIds = content.stream().map(Board::getId).toList();
+        Map<Long, BoardCountService.Counts> counts = boardCountService.countByBoardIds(boardIds);
+        ViewerStateService.ViewerState viewerState = viewerStateService.resolveBoards(userId, boardIds, List.of());
+        return new CursorResponse<>(content.stream().map(board -> toBoardResponse(board, counts, viewerState)).toList(), nextCursor, slice.hasNext());
+    }
+
+    private BoardResponse toBoardResponse(Board board, Map<Long, BoardCountService.Counts> counts,
+                                          ViewerStateService.ViewerState viewerState) {
+        BoardCountService.Counts count = counts.getOrDefault(board.getId(), BoardCountService.Counts.EMPTY);
+        BoardResponse response = new BoardResponse(board, count.getLikeCount(), count.getCommentCount());
+        response.setIsLike(viewerState.isLiked(board.getId()));
+        return response;
     }
 
     @Transactional(readOnly = true)
     public BoardDetailResponse getBoardDetail(Board board, Long userId) {
         int likeCount = (board.getBoardLikes() != null) ? board.getBoardLikes().size() : 0;
         int commentCount = (board.getComments() != null) ? board.getComments().size() : 0;
-        boolean isLike = userId != null && boardLikeService.existsByBoardIdAndUserId(board.getId(), userId);
-        boolean followed = userId != null && followService.existsFollow(userId, board.getUser().getId());
+        ViewerStateService.ViewerState viewerState = viewerStateService.resolveBoards(
+                userId, List.of(board.getId()), List.of(board.getUser().getId()));
+        boolean isLike = viewerState.isLiked(board.getId());
+        boolean followed = viewerState.isFollowed(board.getUser().getId());
         List<CommentResponse> comments = commentService.getCommentsByBoardId(board.getId());
         return new BoardDetailResponse(board, likeCount, commentCount, comments, isLike, followed);
     }
@@ -119,7 +159,7 @@ public class BoardService {
                     .build();
 
             Board savedBoard = boardRepository.save(board);
-            boardSearchService.saveBoard(board, 0, 0);
+            searchIndexOutboxService.enqueueBoard(savedBoard.getId());
             log.info("게시글 저장 성공! ID - {}", savedBoard.getId());
             return getBoardCreate(savedBoard);
         } catch (Exception e) {
@@ -168,7 +208,7 @@ public class BoardService {
         board.updateImage(imageUrl);
 
         Board updatedBoard = boardRepository.save(board);
-        boardSearchService.saveBoard(board, board.getBoardLikes().size(), board.getComments().size());
+        searchIndexOutboxService.enqueueBoard(board.getId());
         return getBoardUpdate(updatedBoard);
     }
 
@@ -187,13 +227,11 @@ public class BoardService {
             }
         }
         boardRepository.delete(board);
-        boardSearchService.deleteBoard(boardId);
+        searchIndexOutboxService.enqueueBoard(boardId);
     }
 
-    @Transactional
     public void incrementViewCount(Board board) {
-        board.updateView(board.getView() + 1);
-        boardRepository.save(board);
+        viewCountAggregator.increment(ViewTarget.BOARD, board.getId());
     }
 
     private byte[] resizeBoardImage(MultipartFile file) throws IOException {
@@ -2,9 +2,11 @@ package com.newsvision.category;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @AllArgsConstructor
+@NoArgsConstructor
 public class CategoryResponse {
     private Long id;
     private String name;
@@ -1,6 +1,9 @@
 package com.newsvision.category;
 
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.newsvision.global.cache.CacheType;
+import com.newsvision.global.cache.TwoLevelCache;
 import com.newsvision.global.exception.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -13,19 +16,24 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 public class CategoryService {
+    private static final String ALL_KEY = "all";
+
     private final CategoryRepository categoryRepository;
+    private final TwoLevelCache twoLevelCache;
 
     public List<CategoryResponse> findAll() {
-        return categoryRepository.findAll().stream()
-                .filter(categories -> categories.getId() != 1L)
-                .map(categories -> new CategoryResponse(categories.getId(), categories.getName()))
-                .toList();
+        return twoLevelCache.get(CacheType.CATEGORIES, ALL_KEY, new TypeReference<List<CategoryResponse>>() {},
+                () -> categoryRepository.findAll().stream()
+                        .filter(categories -> categories.getId() != 1L)
+                        .map(categories -> new CategoryResponse(categories.getId(), categories.getName()))
+                        .toList());
     }
     public CategoryResponse create(CategoryRequest request) {
         Categories newCategory = Categories.builder()
                 .name(request.getName())
                 .build();
         Categories saved = categoryRepository.save(newCategory);
+        twoLevelCache.evictAll(CacheType.CATEGORIES);
         return new CategoryResponse(saved.getId(), saved.getName());
     }
 
@@ -34,6 +42,7 @@ public class CategoryService {
             throw new IllegalArgumentException("기본 카테고리는 삭제할 수 없습니다.");
         }
         categoryRepository.deleteById(id);
+        twoLevelCache.evictAll(CacheType.CATEGORIES);
     }
 
     public CategoryResponse update(Long id, CategoryRequest request) {
@@ -42,6 +51,7 @@ public class CategoryService {
 
         category.setName(request.getName());
         Categories updated = categoryRepository.save(category);
+        twoLevelCache.evictAll(CacheType.CATEGORIES);
 
         return new CategoryResponse(updated.getId(), updated.getName());
     }
@@ -9,25 +9,56 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.apache.http.HttpHost;
 import org.elasticsearch.client.RestClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 @Configuration
 public class ElasticsearchConfig {
 
+    public static final String SEARCH_CLIENT = "searchElasticsearchClient";
+
+    @Value("${elasticsearch.host:localhost}")
+    private String host;
+    @Value("${elasticsearch.port:9200}")
+    private int port;
+    // 사용자 검색 요청용. ES 가 느리거나 죽었을 때 요청 스레드가 오래 묶이지 않도록 짧게 잡는다 (기본값은 1초 / 30초)
+    @Value("${elasticsearch.search.connect-timeout-ms:500}")
+    private int connectTimeoutMs;
+    @Value("${elasticsearch.search.socket-timeout-ms:2000}")
+    private int socketTimeoutMs;
+    // 커넥션 풀이 가득 찼을 때 대기 시간
+    @Value("${elasticsearch.search.connection-request-timeout-ms:200}")
+    private int connectionRequestTimeoutMs;
+
+    // 색인, 재색인(refresh/putSettings), 검색 로그 bulk 저장용 (기본 타임아웃)
     @Bean
+    @Primary
     public ElasticsearchClient elasticsearchClient() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
-        JacksonJsonpMapper jsonpMapper = new JacksonJsonpMapper(objectMapper);
+        return new ElasticsearchClient(new RestClientTransport(
+                RestClient.builder(new HttpHost(host, port)).build(), jsonpMapper()));
+    }
 
+    // 검색 요청 경로 전용 (짧은 타임아웃, 실패는 SearchCircuitBreaker 가 fallback 으로 넘긴다)
+    @Bean(SEARCH_CLIENT)
+    public ElasticsearchClient searchElasticsearchClient() {
         RestClient restClient = RestClient.builder(
-                new HttpHost("localhost", 9200)
+                new HttpHost(host, port)
+        ).setRequestConfigCallback(config -> config
+                .setConnectTimeout(connectTimeoutMs)
+                .setSocketTimeout(socketTimeoutMs)
+                .setConnectionRequestTimeout(connectionRequestTimeoutMs)
         ).build();
 
-        ElasticsearchTransport transport = new RestClientTransport(restClient, jsonpMapper);
+        ElasticsearchTransport transport = new RestClientTransport(restClient, jsonpMapper());
         return new ElasticsearchClient(transport);
     }
+
+    private JacksonJsonpMapper jsonpMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return new JacksonJsonpMapper(objectMapper);
+    }
 }
@@ -1,23 +1,31 @@
 package com.newsvision.elasticsearch.controller;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.newsvision.board.dto.response.BoardResponse;
+import com.newsvision.elasticsearch.dto.SearchLogEvent;
+import com.newsvision.elasticsearch.dto.SearchPageResponse;
+import com.newsvision.elasticsearch.dto.SearchSort;
+import com.newsvision.elasticsearch.dto.UnifiedSearchResponse;
 import com.newsvision.elasticsearch.service.BoardSearchService;
+import com.newsvision.elasticsearch.service.NewsAutocompleteService;
 import com.newsvision.elasticsearch.service.NewsSearchService;
+import com.newsvision.elasticsearch.service.PopularKeywordService;
+import com.newsvision.elasticsearch.service.SearchLogService;
+import com.newsvision.elasticsearch.service.UnifiedSearchService;
 import com.newsvision.global.exception.ApiResponse;
+import com.newsvision.global.exception.CustomException;
 import com.newsvision.global.exception.ErrorCode;
+import com.newsvision.global.security.CustomUserDetails;
 import com.newsvision.news.dto.response.NewsSummaryResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @RestController
@@ -28,80 +36,122 @@ public class SearchController {
 
     private final NewsSearchService newsSearchService;
     private final BoardSearchService boardSearchService;
-    private final ObjectMapper objectMapper;
-    private static final org.slf4j.Logger searchLogger = org.slf4j.LoggerFactory.getLogger("SEARCH_LOGGER");
+    private final NewsAutocompleteService newsAutocompleteService;
+    private final PopularKeywordService popularKeywordService;
+    private final SearchLogService searchLogService;
+    private final UnifiedSearchService unifiedSearchService;
 
     @Operation(
-            summary = "뉴스 검색",
-            description = "입력된 키워드로 뉴스 제목과 내용을 검색합니다."
+            summary = "통합 검색",
+            description = "뉴스와 커뮤니티 첫 페이지를 한 번에 검색합니다. facets=true 면 카테고리별 건수도 함께 반환합니다. 다음 페이지는 각 결과의 nextCursor 로 개별 검색 API 를 호출합니다."
     )
-    @GetMapping("/news")
-    public ResponseEntity<ApiResponse<List<NewsSummaryResponse>>> searchNews(@RequestParam String keyword) {
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            Map<String, String> logMap = new HashMap<>();
-            logMap.put("type", "news");
-            logMap.put("keyword", keyword);
-            try {
-                String jsonLog = objectMapper.writeValueAsString(logMap);
-                searchLogger.info(jsonLog);
-            } catch (JsonProcessingException e) {
-                log.error("검색 로그 직렬화 실패", e);
-                e.printStackTrace();
-            }
+    @GetMapping
+    public ResponseEntity<ApiResponse<UnifiedSearchResponse>> searchAll(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "5") int size,
+            @RequestParam(defaultValue = "relevance") String sort,
+            @RequestParam(defaultValue = "false") boolean facets,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        long startedAt = System.nanoTime();
+        UnifiedSearchResponse result = null;
+        try {
+            result = unifiedSearchService.search(keyword, size, SearchSort.from(sort), facets);
+            return ResponseEntity.ok(ApiResponse.success(result));
+        } catch (CustomException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("통합 검색 중 오류 발생", e);
+            return ResponseEntity.status(500).body(ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR));
+        } finally {
+            long hitCount = result != null ? result.getNews().getTotalHits() + result.getBoard().getTotalHits() : -1;
+            recordSearch("all", keyword, hitCount, startedAt, userDetails);
         }
+    }
 
+    @Operation(
+            summary = "뉴스 검색",
+            description = "입력된 키워드로 뉴스 제목과 내용을 검색합니다. nextCursor 로 다음 페이지를 조회하며, sort 는 relevance(기본) 또는 recent 입니다."
+    )
+    @GetMapping("/news")
+    public ResponseEntity<ApiResponse<SearchPageResponse<NewsSummaryResponse>>> searchNews(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "relevance") String sort,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        long startedAt = System.nanoTime();
+        SearchPageResponse<NewsSummaryResponse> result = null;
         try {
-            List<NewsSummaryResponse> result = newsSearchService.searchNews(keyword);
+            result = newsSearchService.searchNews(keyword, cursor, size, SearchSort.from(sort));
             return ResponseEntity.ok(ApiResponse.success(result));
+        } catch (CustomException e) {
+            throw e;
         } catch (Exception e) {
             log.error("뉴스 검색 중 오류 발생", e);
-            e.printStackTrace();
             return ResponseEntity.status(500).body(ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR));
+        } finally {
+            recordSearch("news", keyword, result != null ? result.getTotalHits() : -1, startedAt, userDetails);
         }
     }
 
     @Operation(
             summary = "커뮤니티 검색",
-            description = "입력된 키워드로 커뮤니티 게시글 내용을 검색합니다."
+            description = "입력된 키워드로 커뮤니티 게시글 내용을 검색합니다. nextCursor 로 다음 페이지를 조회하며, sort 는 relevance(기본) 또는 recent 입니다."
     )
     @GetMapping("/board")
-    public ResponseEntity<ApiResponse<List<BoardResponse>>> searchBoard(@RequestParam String keyword) {
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            Map<String, String> logMap = new HashMap<>();
-            logMap.put("type", "board");
-            logMap.put("keyword", keyword);
-            try {
-                String jsonLog = objectMapper.writeValueAsString(logMap);
-                searchLogger.info(jsonLog);
-            } catch (JsonProcessingException e) {
-                e.printStackTrace();
-                log.warn("검색 로그 JSON 직렬화 실패", e);
-            }
-        }
-
+    public ResponseEntity<ApiResponse<SearchPageResponse<BoardResponse>>> searchBoard(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "relevance") String sort,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        long startedAt = System.nanoTime();
+        SearchPageResponse<BoardResponse> result = null;
         try {
-            List<BoardResponse> result = boardSearchService.searchBoard(keyword);
+            result = boardSearchService.searchBoard(keyword, cursor, size, SearchSort.from(sort));
             return ResponseEntity.ok(ApiResponse.success(result));
+        } catch (CustomException e) {
+            throw e;
         } catch (Exception e) {
             log.error("게시글 검색 중 오류 발생", e);
-            e.printStackTrace();
             return ResponseEntity.status(500).body(ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR));
+        } finally {
+            recordSearch("board", keyword, result != null ? result.getTotalHits() : -1, startedAt, userDetails);
         }
     }
 
     @Operation(
             summary = "뉴스 제목 자동완성",
-            description = "입력된 키워드를 기반으로 뉴스 제목 자동완성 추천 리스트를 반환합니다."
+            description = "입력된 키워드의 마지막 단어를 기준으로 뉴스 제목 단어 자동완성 추천 리스트를 반환합니다. 초성만 입력하면 초성으로 검색합니다."
     )
     @GetMapping("/news/autocomplete")
     public ResponseEntity<ApiResponse<List<String>>> autocompleteNews(@RequestParam String keyword) {
-        try {
-            List<String> result = newsSearchService.autocompleteTitle(keyword);
-            return ResponseEntity.ok(ApiResponse.success(result));
-        } catch (Exception e) {
-            log.error("자동완성 중 오류 발생", e);
-            e.printStackTrace();
-            return ResponseEntity.status(500).body(ApiResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR));
+        List<String> result = newsAutocompleteService.suggest(keyword);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
+    // 검색 응답과 무관하게 메모리에만 기록 (로그 전송은 SearchLogService writer 스레드에서 처리)
+    private void recordSearch(String type, String keyword, long hitCount, long startedAt,
+                              CustomUserDetails userDetails) {
+        if (keyword == null || keyword.isBlank()) {
+            return;
+        }
+        if ("all".equals(type)) {
+            popularKeywordService.record("news", keyword);
+            popularKeywordService.record("board", keyword);
+        } else {
+            popularKeywordService.record(type, keyword);
         }
+        searchLogService.record(SearchLogEvent.builder()
+                .type(type)
+                .keyword(keyword)
+                .hitCount(hitCount)
+                .latencyMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+                .userSegment(userDetails != null ? userDetails.getRole() : "ANONYMOUS")
+                .timestamp(System.currentTimeMillis())
+                .build());
     }
 }
@@ -0,0 +1,70 @@
+package com.newsvision.elasticsearch.controller;
+
+import com.newsvision.elasticsearch.dto.ReindexStatusResponse;
+import com.newsvision.elasticsearch.dto.SearchLogStatsResponse;
+import com.newsvision.elasticsearch.entity.SearchIndexOutbox;
+import com.newsvision.elasticsearch.service.SearchLogService;
+import com.newsvision.elasticsearch.service.SearchReindexService;
+import com.newsvision.global.exception.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/search")
+@Tag(name = "검색 인덱스 관리 컨트롤러", description = "관리자용 검색 인덱스 재구성 및 검색 로그 상태 API")
+public class SearchIndexAdminController {
+    private final SearchReindexService searchReindexService;
+    private final SearchLogService searchLogService;
+
+    @Operation(summary = "검색 인덱스 전체 재구성", description = "DB 기준으로 새 인덱스를 만들고 alias 를 교체합니다. type에는 'NEWS' 또는 'BOARD'를 사용합니다. 관리자 권한 필요.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @PostMapping("/reindex/{type}")
+    public ResponseEntity<ApiResponse<ReindexStatusResponse>> reindex(
+            @PathVariable SearchIndexOutbox.TargetType type,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        if (!isAdmin(userDetails)) {
+            return ResponseEntity.status(403).body(null);
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(searchReindexService.start(type)));
+    }
+
+    @Operation(summary = "검색 인덱스 재구성 상태", description = "최근 재구성 작업의 진행 상태를 조회합니다. 관리자 권한 필요.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/reindex")
+    public ResponseEntity<ApiResponse<List<ReindexStatusResponse>>> getStatus(
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        if (!isAdmin(userDetails)) {
+            return ResponseEntity.status(403).body(null);
+        }
+        return ResponseEntity.ok(ApiResponse.success(searchReindexService.getStatus()));
+    }
+
+    @Operation(summary = "검색 로그 파이프라인 상태", description = "검색 로그 버퍼 적재/유실(dropped)/저장 건수를 조회합니다. 관리자 권한 필요.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/log/stats")
+    public ResponseEntity<ApiResponse<SearchLogStatsResponse>> getLogStats(
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        if (!isAdmin(userDetails)) {
+            return ResponseEntity.status(403).body(null);
+        }
+        return ResponseEntity.ok(ApiResponse.success(searchLogService.getStats()));
+    }
+
+    private boolean isAdmin(UserDetails userDetails) {
+        return userDetails != null && userDetails.getAuthorities().stream()
+                .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
+    }
+}
@@ -0,0 +1,18 @@
+package com.newsvision.elasticsearch.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class ReindexStatusResponse {
+    private String alias;
+    private String indexName;
+    private String state;   // RUNNING, COMPLETED, FAILED
+    private long processed;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
@@ -0,0 +1,13 @@
+package com.newsvision.elasticsearch.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchFacetResponse {
+    private String name;
+    private long count;
+}
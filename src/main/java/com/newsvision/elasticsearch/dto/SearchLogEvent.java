@@ -0,0 +1,15 @@
+package com.newsvision.elasticsearch.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SearchLogEvent {
+    private String type;
+    private String keyword;
+    private long hitCount;
+    private long latencyMs;
+    private String userSegment;
+    private long timestamp;
+}
@@ -0,0 +1,16 @@
+package com.newsvision.elasticsearch.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SearchLogStatsResponse {
+    private String sink;
+    private int capacity;
+    private long enqueued;
+    private long dropped;
+    private long written;
+    private long fileFallback;
+    private long failed;
+}
@@ -0,0 +1,17 @@
+package com.newsvision.elasticsearch.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchPageResponse<T> {
+    private List<T> content;
+    private long totalHits;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,10 @@
+package com.newsvision.elasticsearch.dto;
+
+public enum SearchSort {
+    RELEVANCE, // _score, createdAt, id
+    RECENT;    // createdAt, id
+
+    public static SearchSort from(String value) {
+        return "recent".equalsIgnoreCase(value) ? RECENT : RELEVANCE;
+    }
+}
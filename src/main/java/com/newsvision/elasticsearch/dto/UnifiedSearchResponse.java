@@ -0,0 +1,21 @@
+package com.newsvision.elasticsearch.dto;
+
+import com.newsvision.board.dto.response.BoardResponse;
+import com.newsvision.news.dto.response.NewsSummaryResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnifiedSearchResponse {
+    private SearchPageResponse<NewsSummaryResponse> news;
+    private SearchPageResponse<BoardResponse> board;
+    private List<SearchFacetResponse> newsCategories; // facets=true 일 때만
+    private List<SearchFacetResponse> boardCategories;
+}
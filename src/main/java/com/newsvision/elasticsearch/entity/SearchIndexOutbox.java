@@ -0,0 +1,61 @@
+package com.newsvision.elasticsearch.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 인덱스 반영 대기열 (transactional outbox).
+ * 뉴스/게시글 변경과 같은 트랜잭션에서 저장되고, SearchIndexer 가 커밋 이후 ES 에 반영한다.
+ */
+@Entity
+@Table(name = "search_index_outbox", indexes = {
+        @Index(name = "idx_search_outbox_next_retry_at", columnList = "next_retry_at, id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchIndexOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 20)
+    private TargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "retry_count", nullable = false)
+    private int retryCount;
+
+    @Column(name = "next_retry_at", nullable = false)
+    private LocalDateTime nextRetryAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public enum TargetType {
+        NEWS, BOARD
+    }
+
+    public static SearchIndexOutbox of(TargetType targetType, Long targetId) {
+        LocalDateTime now = LocalDateTime.now();
+        return SearchIndexOutbox.builder()
+                .targetType(targetType)
+                .targetId(targetId)
+                .retryCount(0)
+                .nextRetryAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    public void scheduleRetry(LocalDateTime nextRetryAt) {
+        this.retryCount++;
+        this.nextRetryAt = nextRetryAt;
+    }
+}
@@ -0,0 +1,28 @@
+package com.newsvision.elasticsearch.repository;
+
+import com.newsvision.elasticsearch.entity.SearchIndexOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SearchIndexOutboxRepository extends JpaRepository<SearchIndexOutbox, Long> {
+
+    // 여러 서버가 같은 행을 가져가지 않도록 다른 트랜잭션이 잠근 행은 건너뛴다 (MySQL 8)
+    @Query(value = """
+        SELECT * FROM search_index_outbox
+        WHERE next_retry_at <= :now
+        ORDER BY id ASC
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<SearchIndexOutbox> findReadyForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE SearchIndexOutbox o SET o.nextRetryAt = :leaseUntil WHERE o.id IN :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+}
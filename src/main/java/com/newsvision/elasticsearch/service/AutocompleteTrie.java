@@ -0,0 +1,105 @@
+package com.newsvision.elasticsearch.service;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * 불변 radix trie. 분기가 없는 구간은 간선 하나로 합치고,
+ * 각 노드에 하위 단어 중 가중치 상위 N 개를 미리 계산해 둬서 조회는 접두어 길이만큼만 따라간다.
+ */
+final class AutocompleteTrie {
+    static final AutocompleteTrie EMPTY = build(Map.of(), (word, out) -> out.append(word), 1);
+
+    private final Node root;
+
+    private AutocompleteTrie(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * @param weights   단어별 가중치
+     * @param keyWriter 단어의 trie 키를 버퍼에 쓰는 함수 (비어 있으면 제외, 버퍼는 단어마다 재사용)
+     * @param topN      노드마다 보관할 추천 수
+     */
+    static AutocompleteTrie build(Map<String, Long> weights, BiConsumer<CharSequence, StringBuilder> keyWriter, int topN) {
+        BuildNode root = new BuildNode();
+        StringBuilder key = new StringBuilder(64);
+        for (String word : weights.keySet()) {
+            key.setLength(0);
+            keyWriter.accept(word, key);
+            if (key.isEmpty()) {
+                continue;
+            }
+            BuildNode node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+            }
+            node.words.add(word);
+        }
+        Comparator<String> order = Comparator.<String>comparingLong(weights::get).reversed()
+                .thenComparingInt(String::length)
+                .thenComparing(Comparator.naturalOrder());
+        return new AutocompleteTrie(freeze(root, order, topN));
+    }
+
+    List<String> suggest(CharSequence prefix, int limit) {
+        if (prefix == null || prefix.isEmpty()) {
+            return List.of();
+        }
+        Node node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            int idx = Arrays.binarySearch(node.firstChars, prefix.charAt(i));
+            if (idx < 0) {
+                return List.of();
+            }
+            String label = node.labels[idx];
+            int n = Math.min(label.length(), prefix.length() - i);
+            for (int j = 0; j < n; j++) {
+                if (label.charAt(j) != prefix.charAt(i + j)) {
+                    return List.of();
+                }
+            }
+            i += n;
+            node = node.children[idx];
+        }
+        return Arrays.asList(node.top).subList(0, Math.min(limit, node.top.length));
+    }
+
+    private static Node freeze(BuildNode build, Comparator<String> order, int topN) {
+        int size = build.children.size();
+        char[] firstChars = new char[size];
+        String[] labels = new String[size];
+        Node[] children = new Node[size];
+        List<String> candidates = new ArrayList<>(build.words);
+
+        int i = 0;
+        for (Map.Entry<Character, BuildNode> edge : build.children.entrySet()) {
+            StringBuilder label = new StringBuilder().append(edge.getKey());
+            BuildNode child = edge.getValue();
+            // 단어 끝이 아니고 자식이 하나뿐인 구간은 간선 하나로 압축
+            while (child.words.isEmpty() && child.children.size() == 1) {
+                Map.Entry<Character, BuildNode> only = child.children.firstEntry();
+                label.append(only.getKey());
+                child = only.getValue();
+            }
+            firstChars[i] = edge.getKey();
+            labels[i] = label.toString();
+            children[i] = freeze(child, order, topN);
+            candidates.addAll(Arrays.asList(children[i].top));
+            i++;
+        }
+
+        candidates.sort(order);
+        String[] top = candidates.stream().distinct().limit(topN).toArray(String[]::new);
+        return new Node(firstChars, labels, children, top);
+    }
+
+    private record Node(char[] firstChars, String[] labels, Node[] children, String[] top) {
+    }
+
+    private static class BuildNode {
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private final List<String> words = new ArrayList<>(1);
+    }
+}
@@ -1,37 +1,61 @@
 package com.newsvision.elasticsearch.service;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
-import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.newsvision.board.dto.response.BoardResponse;
 import com.newsvision.board.entity.Board;
+import com.newsvision.elasticsearch.config.ElasticsearchConfig;
 import com.newsvision.elasticsearch.document.BoardDocument;
+import com.newsvision.elasticsearch.dto.SearchPageResponse;
+import com.newsvision.elasticsearch.dto.SearchSort;
 import com.newsvision.elasticsearch.repository.BoardSearchRepository;
+import com.newsvision.global.cache.CacheType;
+import com.newsvision.global.exception.CustomException;
+import com.newsvision.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Objects;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BoardSearchService {
     private final BoardSearchRepository boardSearchRepository;
+    @Qualifier(ElasticsearchConfig.SEARCH_CLIENT)
     private final ElasticsearchClient elasticsearchClient;
+    private final SearchResultCache searchResultCache;
+    private final SearchCircuitBreaker searchCircuitBreaker;
+    private final SearchFallbackService searchFallbackService;
 
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    static final String INDEX = "boards";
+    private static final int MAX_PAGE_SIZE = 50;
+    // BoardResponse 에 필요한 필드만 _source 로 조회
+    static final List<String> SUMMARY_FIELDS = List.of("id", "nickname", "userImage", "icon", "image", "content",
+            "createdAt", "newsId", "isReported", "likeCount", "commentCount");
+    private static final TypeReference<SearchPageResponse<BoardResponse>> SEARCH_PAGE_TYPE =
+            new TypeReference<SearchPageResponse<BoardResponse>>() {};
 
     public void saveBoard(Board board, int likeCount, int commentCount) {
+        boardSearchRepository.save(toDocument(board, likeCount, commentCount));
+    }
+
+    public BoardDocument toDocument(Board board, int likeCount, int commentCount) {
         LocalDateTime formattedDateTime = LocalDateTime.parse(board.getCreatedAt().format(FORMATTER), FORMATTER);
 
-        BoardDocument doc = BoardDocument.builder()
+        return BoardDocument.builder()
                 .id(board.getId())
                 .content(board.getContent())
-                .categoryName(board.getCategory().getName())
+                .categoryName(board.getCategory() != null ? board.getCategory().getName() : null)
                 .username(board.getUser().getUsername())
                 .nickname(board.getUser().getNickname())
                 .userImage(board.getUser().getImage())
@@ -44,71 +68,78 @@ public class BoardSearchService {
                 .likeCount(likeCount)
                 .commentCount(commentCount)
                 .build();
-
-        boardSearchRepository.save(doc);
     }
 
     public void deleteBoard(Long boardId) {
         boardSearchRepository.deleteById(boardId);
     }
 
-    public List<BoardResponse> searchBoard(String keyword) throws Exception {
-        String analyzerSuffix = getAnalyzerSuffix(keyword);
-        log.info("검색 필드: content.{}", analyzerSuffix);
-        log.info("검색어: {}", keyword);
+    public SearchPageResponse<BoardResponse> searchBoard(String keyword, String cursor, int size, SearchSort sort) throws Exception {
+        SearchQuery query = SearchQuery.of(keyword);
+        int pageSize = pageSize(size);
+        List<FieldValue> searchAfter = SearchAfterCursor.decode(cursor, sort);
 
+        String cacheKey = query.cacheKey("boards", sort, pageSize, cursor);
         try {
-            SearchResponse<BoardDocument> response = elasticsearchClient.search(s -> s
-                            .index("boards")
-                            .query(q -> q
-                                    .match(m -> m
-                                            .field("content." + analyzerSuffix)
-                                            .query(keyword)
-                                    )
-                            ),
-                    BoardDocument.class);
+            return searchResultCache.get(CacheType.SEARCH_BOARD, cacheKey, SEARCH_PAGE_TYPE,
+                    () -> searchCircuitBreaker.execute(() -> search(query, pageSize, searchAfter, sort)));
+        } catch (CustomException e) {
+            if (e.getErrorCode() != ErrorCode.SEARCH_UNAVAILABLE) {
+                throw e;
+            }
+            // ES 장애 중에는 캐시하지 않고 MySQL 로 검색
+            return searchFallbackService.searchBoard(query, cursor, pageSize, sort);
+        }
+    }
 
-            List<Hit<BoardDocument>> hits = response.hits().hits();
+    private SearchPageResponse<BoardResponse> search(SearchQuery query, int pageSize,
+                                                     List<FieldValue> searchAfter, SearchSort sort) throws IOException {
+        log.info("검색 필드: content.{}, 검색어: {}", query.analyzerSuffix(), query.keyword());
+        SearchResponse<BoardDocument> response = elasticsearchClient.search(s -> {
+                    s.index(INDEX)
+                            .size(pageSize + 1)
+                            .trackTotalHits(t -> t.enabled(true))
+                            .source(src -> src.filter(f -> f.includes(SUMMARY_FIELDS)))
+                            .sort(SearchAfterCursor.sortOptions(sort))
+                            .query(buildQuery(query));
+                    if (!searchAfter.isEmpty()) {
+                        s.searchAfter(searchAfter);
+                    }
+                    return s;
+                },
+                BoardDocument.class);
+        return SearchAfterCursor.toPage(response.hits(), pageSize, this::toResponse);
+    }
 
-            if (hits == null || hits.isEmpty()) {
-                log.info("검색 결과 없음");
-                return List.of();
-            }
+    static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
 
-            return hits.stream()
-                    .map(Hit::source)
-                    .filter(Objects::nonNull)
-                    .map(doc -> {
-                        BoardResponse res = new BoardResponse();
-                        res.setBoardId(doc.getId());
-                        res.setNickname(doc.getNickname());
-                        res.setUserImage(doc.getUserImage());
-                        res.setIcon(doc.getIcon());
-                        res.setImage(doc.getImage());
-                        res.setContent(doc.getContent());
-                        res.setCategoryId(null);
-                        res.setCreatedAt(doc.getCreatedAt() != null
-                                ? doc.getCreatedAt().format(FORMATTER)
-                                : "날짜 없음");
-                        res.setNewsId(doc.getNewsId());
-                        res.setIsReported(doc.getIsReported());
-                        res.setLikeCount(doc.getLikeCount());
-                        res.setCommentCount(doc.getCommentCount());
-                        return res;
-                    })
-                    .toList();
-        } catch (Exception e) {
-            log.error("Elasticsearch 게시글 검색 중 오류 발생", e);
-            e.printStackTrace();
-            throw new RuntimeException("게시글 검색 실패", e);
-        }
+    Query buildQuery(SearchQuery query) {
+        return Query.of(q -> q
+                .match(m -> m
+                        .field("content." + query.analyzerSuffix())
+                        .query(query.keyword())
+                )
+        );
     }
 
-    private String getAnalyzerSuffix(String input) {
-        boolean hasKor = input.matches(".*[ㄱ-ㅎㅏ-ㅣ가-힣]+.*");
-        boolean hasEng = input.matches(".*[a-zA-Z]+.*");
-        if (hasKor && hasEng) return "mixed";
-        if (hasKor) return "kor";
-        return "eng";
+    BoardResponse toResponse(BoardDocument doc) {
+        BoardResponse res = new BoardResponse();
+        res.setBoardId(doc.getId());
+        res.setNickname(doc.getNickname());
+        res.setUserImage(doc.getUserImage());
+        res.setIcon(doc.getIcon());
+        res.setImage(doc.getImage());
+        res.setContent(doc.getContent());
+        res.setCategoryId(null);
+        res.setCreatedAt(doc.getCreatedAt() != null
+                ? doc.getCreatedAt().format(FORMATTER)
+                : "날짜 없음");
+        res.setNewsId(doc.getNewsId());
+        res.setIsReported(doc.getIsReported());
+        res.setLikeCount(doc.getLikeCount());
+        res.setCommentCount(doc.getCommentCount());
+        return res;
     }
 }
@@ -0,0 +1,98 @@
+package com.newsvision.elasticsearch.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 고정 크기 Count-Min sketch. 칸 배열이 같은 크기면 더하기만으로 병합된다.
+ * 직렬화 형식은 Redis BITFIELD u32 (#index) 와 같은 big-endian 32bit 배열이다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화한다.
+ */
+final class CountMinSketch {
+    private final int depth;
+    private final int width;
+    private final int[] counters;
+
+    CountMinSketch(int depth, int width) {
+        this.depth = depth;
+        this.width = width;
+        this.counters = new int[depth * width];
+    }
+
+    // BITFIELD 는 마지막으로 쓴 칸까지만 값이 있으므로 짧은 배열도 허용
+    static CountMinSketch fromBytes(int depth, int width, byte[] bytes) {
+        CountMinSketch sketch = new CountMinSketch(depth, width);
+        if (bytes != null) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            int cells = Math.min(sketch.counters.length, bytes.length / Integer.BYTES);
+            for (int i = 0; i < cells; i++) {
+                sketch.counters[i] = buffer.getInt();
+            }
+        }
+        return sketch;
+    }
+
+    /**
+     * @return 더한 뒤의 추정치
+     */
+    int add(String key, int delta) {
+        int h1 = hash1(key);
+        int h2 = hash2(key);
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int index = index(row, h1, h2);
+            counters[index] += delta;
+            estimate = Math.min(estimate, counters[index]);
+        }
+        return estimate;
+    }
+
+    int estimate(String key) {
+        int h1 = hash1(key);
+        int h2 = hash2(key);
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[index(row, h1, h2)]);
+        }
+        return estimate;
+    }
+
+    void merge(CountMinSketch other) {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] += other.counters[i];
+        }
+    }
+
+    int cellCount() {
+        return counters.length;
+    }
+
+    int cell(int index) {
+        return counters[index];
+    }
+
+    // 행마다 h1 + row * h2 로 서로 다른 열을 고른다 (double hashing)
+    private int index(int row, int h1, int h2) {
+        return row * width + ((h1 + row * h2) & Integer.MAX_VALUE) % width;
+    }
+
+    // 서버마다 같은 칸을 가리켜야 하므로 JVM 에 의존하지 않는 해시만 사용
+    private static int hash1(String key) {
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static int hash2(String key) {
+        int h = 0x811C9DC5;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x01000193;
+        }
+        return h | 1;
+    }
+}
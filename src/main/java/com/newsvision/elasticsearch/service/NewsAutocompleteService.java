@@ -0,0 +1,164 @@
+package com.newsvision.elasticsearch.service;
+
+import com.newsvision.global.Utils.JasoUtils;
+import com.newsvision.news.event.NewsTitleChangedEvent;
+import com.newsvision.news.repository.NewsRepository;
+import com.newsvision.news.repository.NewsTitleEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 뉴스 제목 단어 자동완성을 메모리 trie 로 처리한다 (ES 호출 없음).
+ * 단어는 자모 분해 키와 초성 키로 각각 색인하고, 가중치는 해당 단어가 들어간 뉴스의 (1 + 좋아요 수) 합이다.
+ * 시작 시 DB 에서 구성하고, 작성/수정/삭제 이벤트는 dirty 표시 후 스케줄러가 모아서 새 trie 로 교체한다.
+ * 다른 서버의 변경과 좋아요 수 변화는 주기적인 전체 재적재로 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsAutocompleteService {
+    private static final int MAX_SUGGESTIONS = 10;
+    private static final int MAX_WORD_LENGTH = 30;
+
+    private final NewsRepository newsRepository;
+
+    private final Object lock = new Object();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private Map<Long, TitleEntry> entries = new HashMap<>();
+    private List<NewsTitleChangedEvent> pendingDuringReload;
+    private volatile Index index = new Index(AutocompleteTrie.EMPTY, AutocompleteTrie.EMPTY);
+
+    public List<String> suggest(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        String trimmed = keyword.trim().toLowerCase(Locale.ROOT);
+        // 마지막 단어 기준으로 추천
+        String prefix = trimmed.substring(trimmed.lastIndexOf(' ') + 1);
+        Index current = index;
+        if (isChosungOnly(prefix)) {
+            return current.chosung.suggest(prefix, MAX_SUGGESTIONS);
+        }
+        StringBuilder jaso = new StringBuilder(prefix.length() * 3);
+        JasoUtils.appendJamoKey(prefix, jaso);
+        return current.jaso.suggest(jaso, MAX_SUGGESTIONS);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        reload();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTitleChanged(NewsTitleChangedEvent event) {
+        synchronized (lock) {
+            apply(entries, event);
+            if (pendingDuringReload != null) {
+                pendingDuringReload.add(event);
+            }
+        }
+        dirty.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${news.autocomplete.rebuild-interval-ms:1000}")
+    public void rebuildIfDirty() {
+        if (dirty.compareAndSet(true, false)) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${news.autocomplete.reload-interval-ms:600000}",
+            fixedDelayString = "${news.autocomplete.reload-interval-ms:600000}")
+    public void reload() {
+        synchronized (lock) {
+            pendingDuringReload = new ArrayList<>();
+        }
+        try {
+            Map<Long, TitleEntry> fresh = new HashMap<>();
+            for (NewsTitleEntry row : newsRepository.findTitleEntries()) {
+                fresh.put(row.getId(), new TitleEntry(tokenize(row.getTitle()), 1L + row.getLikeCount()));
+            }
+            synchronized (lock) {
+                // 조회 도중 들어온 변경분은 새 데이터 위에 다시 적용
+                pendingDuringReload.forEach(event -> apply(fresh, event));
+                entries = fresh;
+            }
+            rebuild();
+            log.info("뉴스 자동완성 인덱스 적재 완료: 뉴스 {}건", fresh.size());
+        } catch (Exception e) {
+            log.warn("뉴스 자동완성 인덱스 적재 실패, 이전 인덱스 유지: {}", e.getMessage());
+        } finally {
+            synchronized (lock) {
+                pendingDuringReload = null;
+            }
+        }
+    }
+
+    private void rebuild() {
+        Map<String, Long> weights = new HashMap<>();
+        synchronized (lock) {
+            entries.values().forEach(entry ->
+                    entry.words.forEach(word -> weights.merge(word, entry.weight, Long::sum)));
+        }
+        index = new Index(
+                AutocompleteTrie.build(weights, JasoUtils::appendJamoKey, MAX_SUGGESTIONS),
+                AutocompleteTrie.build(weights, JasoUtils::appendChosung, MAX_SUGGESTIONS));
+    }
+
+    // 수정 시에는 기존 가중치(좋아요 수)를 유지
+    private static void apply(Map<Long, TitleEntry> target, NewsTitleChangedEvent event) {
+        if (event.isDeleted()) {
+            target.remove(event.getNewsId());
+            return;
+        }
+        TitleEntry previous = target.get(event.getNewsId());
+        long weight = previous != null ? previous.weight : 1L;
+        target.put(event.getNewsId(), new TitleEntry(tokenize(event.getTitle()), weight));
+    }
+
+    // 공백 기준으로 나누고 앞뒤 문장부호 제거 ("[속보]" -> "속보")
+    private static Set<String> tokenize(String title) {
+        if (title == null) {
+            return Set.of();
+        }
+        Set<String> words = new HashSet<>();
+        for (String raw : title.toLowerCase(Locale.ROOT).split("\\s+")) {
+            int start = 0;
+            int end = raw.length();
+            while (start < end && !Character.isLetterOrDigit(raw.charAt(start))) {
+                start++;
+            }
+            while (end > start && !Character.isLetterOrDigit(raw.charAt(end - 1))) {
+                end--;
+            }
+            if (end > start && end - start <= MAX_WORD_LENGTH) {
+                words.add(raw.substring(start, end));
+            }
+        }
+        return words;
+    }
+
+    private static boolean isChosungOnly(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch < 'ㄱ' || ch > 'ㅎ') {
+                return false;
+            }
+        }
+        return !text.isEmpty();
+    }
+
+    private record TitleEntry(Set<String> words, long weight) {
+    }
+
+    private record Index(AutocompleteTrie jaso, AutocompleteTrie chosung) {
+    }
+}
@@ -1,18 +1,28 @@
 package com.newsvision.elasticsearch.service;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
-import co.elastic.clients.elasticsearch.core.search.Hit;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.newsvision.elasticsearch.config.ElasticsearchConfig;
 import com.newsvision.elasticsearch.document.NewsDocument;
+import com.newsvision.elasticsearch.dto.SearchPageResponse;
+import com.newsvision.elasticsearch.dto.SearchSort;
 import com.newsvision.elasticsearch.repository.NewsSearchRepository;
 import com.newsvision.global.Utils.JasoUtils;
+import com.newsvision.global.cache.CacheType;
+import com.newsvision.global.exception.CustomException;
+import com.newsvision.global.exception.ErrorCode;
 import com.newsvision.news.dto.response.NewsSummaryResponse;
 import com.newsvision.news.entity.News;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -21,12 +31,27 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NewsSearchService {
     private final NewsSearchRepository newsSearchRepository;
+    @Qualifier(ElasticsearchConfig.SEARCH_CLIENT)
     private final ElasticsearchClient elasticsearchClient;
+    private final SearchResultCache searchResultCache;
+    private final SearchCircuitBreaker searchCircuitBreaker;
+    private final SearchFallbackService searchFallbackService;
     DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
 
+    static final String INDEX = "news";
+    private static final int MAX_PAGE_SIZE = 50;
+    // 목록에 필요한 필드만 _source 로 조회 (본문 제외)
+    static final List<String> SUMMARY_FIELDS = List.of("id", "title", "image", "categoryName", "username", "createdAt");
+    private static final TypeReference<SearchPageResponse<NewsSummaryResponse>> SEARCH_PAGE_TYPE =
+            new TypeReference<SearchPageResponse<NewsSummaryResponse>>() {};
+
     public void saveNews(News news) {
+        newsSearchRepository.save(toDocument(news));
+        log.info("뉴스 검색 인덱스 저장 완료");
+    }
 
-        NewsDocument doc = NewsDocument.builder()
+    public NewsDocument toDocument(News news) {
+        return NewsDocument.builder()
                 .id(news.getId())
                 .title(news.getTitle())
                 .titleJaso(JasoUtils.splitJaso(news.getTitle())) // 추가
@@ -37,88 +62,76 @@ public class NewsSearchService {
                 .image(news.getImage())
                 .createdAt(news.getCreatedAt().format(formatter))
                 .build();
-
-        newsSearchRepository.save(doc);
-        log.info("뉴스 검색 인덱스 저장 완료");
     }
 
     public void deleteNews(Long newsId) {
         newsSearchRepository.deleteById(newsId);
     }
 
-    public List<NewsSummaryResponse> searchNews(String keyword) throws Exception {
-        String analyzerSuffix = getAnalyzerSuffix(keyword);
+    public SearchPageResponse<NewsSummaryResponse> searchNews(String keyword, String cursor, int size, SearchSort sort) throws Exception {
+        SearchQuery query = SearchQuery.of(keyword);
+        int pageSize = pageSize(size);
+        List<FieldValue> searchAfter = SearchAfterCursor.decode(cursor, sort);
+
+        String cacheKey = query.cacheKey("news", sort, pageSize, cursor);
+        try {
+            return searchResultCache.get(CacheType.SEARCH_NEWS, cacheKey, SEARCH_PAGE_TYPE,
+                    () -> searchCircuitBreaker.execute(() -> search(query, pageSize, searchAfter, sort)));
+        } catch (CustomException e) {
+            if (e.getErrorCode() != ErrorCode.SEARCH_UNAVAILABLE) {
+                throw e;
+            }
+            // ES 장애 중에는 캐시하지 않고 MySQL 로 검색
+            return searchFallbackService.searchNews(query, cursor, pageSize, sort);
+        }
+    }
 
-        SearchResponse<NewsDocument> response = elasticsearchClient.search(s -> s
-                        .index("news")
-                        .query(q -> q
-                                .bool(b -> b
-                                        .should(QueryBuilders.match(m -> m
-                                                .field("title." + analyzerSuffix)
-                                                .query(keyword)
-                                        ))
-                                        .should(QueryBuilders.match(m -> m
-                                                .field("content." + analyzerSuffix)
-                                                .query(keyword)
-                                        ))
-                                )
-                        ),
+    private SearchPageResponse<NewsSummaryResponse> search(SearchQuery query, int pageSize,
+                                                           List<FieldValue> searchAfter, SearchSort sort) throws IOException {
+        SearchResponse<NewsDocument> response = elasticsearchClient.search(s -> {
+                    s.index(INDEX)
+                            .size(pageSize + 1)
+                            .trackTotalHits(t -> t.enabled(true))
+                            .source(src -> src.filter(f -> f.includes(SUMMARY_FIELDS)))
+                            .sort(SearchAfterCursor.sortOptions(sort))
+                            .query(buildQuery(query));
+                    if (!searchAfter.isEmpty()) {
+                        s.searchAfter(searchAfter);
+                    }
+                    return s;
+                },
                 NewsDocument.class
         );
-
-        return response.hits().hits().stream()
-                .map(Hit::source)
-                .map(doc -> NewsSummaryResponse.builder()
-                        .id(doc.getId())
-                        .title(doc.getTitle())
-                        .image(doc.getImage())
-                        .category(doc.getCategoryName())
-                        .nickname(doc.getUsername())
-                        .createdAt(String.valueOf(LocalDateTime.parse(doc.getCreatedAt(), formatter)))
-                        .build())
-                .toList();
+        return SearchAfterCursor.toPage(response.hits(), pageSize, this::toSummary);
     }
 
-    private String getAnalyzerSuffix(String input) {
-        boolean hasKor = input.matches(".*[ㄱ-ㅎㅏ-ㅣ가-힣]+.*");
-        boolean hasEng = input.matches(".*[a-zA-Z]+.*");
-
-        if (hasKor && hasEng) return "mixed";
-        if (hasKor) return "kor";
-        return "eng";
+    static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
     }
-    public List<String> autocompleteTitle(String keyword) throws Exception {
-        String jasoQuery = JasoUtils.splitJaso(keyword);
-        String chosungQuery = JasoUtils.extractChosung(keyword);
 
-        SearchResponse<NewsDocument> response = elasticsearchClient.search(s -> s
-                        .index("news")
-                        .size(20)
-                        .query(q -> q
-                                .bool(b -> b
-                                        .should(m -> m.match(mm -> mm
-                                                .field("titleJaso")
-                                                .query(jasoQuery)))
-                                        .should(m -> m.match(mm -> mm
-                                                .field("titleChosung")
-                                                .query(chosungQuery)))
-                                )
-                        ),
-                NewsDocument.class
+    Query buildQuery(SearchQuery query) {
+        return Query.of(q -> q
+                .bool(b -> b
+                        .should(QueryBuilders.match(m -> m
+                                .field("title." + query.analyzerSuffix())
+                                .query(query.keyword())
+                        ))
+                        .should(QueryBuilders.match(m -> m
+                                .field("content." + query.analyzerSuffix())
+                                .query(query.keyword())
+                        ))
+                )
         );
+    }
 
-        return response.hits().hits().stream()
-                .map(hit -> hit.source().getTitle())
-                .flatMap(title -> {
-                    log.info("title: {}, jaso: {}, chosung: {}", title, JasoUtils.splitJaso(title), JasoUtils.extractChosung(title));
-                    return List.of(title.split(" ")).stream()
-                            .filter(word ->
-                                    JasoUtils.splitJaso(word).contains(jasoQuery) ||
-                                            JasoUtils.extractChosung(word).contains(chosungQuery)
-                            );
-                })
-                .distinct()
-                .limit(10)
-                .toList();
+    NewsSummaryResponse toSummary(NewsDocument doc) {
+        return NewsSummaryResponse.builder()
+                .id(doc.getId())
+                .title(doc.getTitle())
+                .image(doc.getImage())
+                .category(doc.getCategoryName())
+                .nickname(doc.getUsername())
+                .createdAt(String.valueOf(LocalDateTime.parse(doc.getCreatedAt(), formatter)))
+                .build();
     }
 }
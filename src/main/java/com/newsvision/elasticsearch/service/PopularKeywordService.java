@@ -1,87 +1,226 @@
 package com.newsvision.elasticsearch.service;
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch.core.SearchRequest;
-import co.elastic.clients.elasticsearch.core.SearchResponse;
-import co.elastic.clients.json.JsonData;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.newsvision.elasticsearch.dto.PopularKeywordResponse;
 import com.newsvision.global.exception.CustomException;
 import com.newsvision.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldType;
+import org.springframework.data.redis.connection.BitFieldSubCommands.Offset;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.time.Duration;
+import java.util.*;
 
+/**
+ * 검색어를 시간 버킷별 Count-Min sketch 로 집계해 타입별 인기 검색어를 만든다 (ES / Logstash 미사용).
+ * - 요청 스레드: 로컬 sketch 에 더하고, 버킷 내 상위 후보를 heap 으로 유지
+ * - 주기 작업: 로컬 증가분을 Redis BITFIELD 로 합산(서버 간 병합)하고 후보는 SET 에 모은 뒤,
+ *   윈도우 내 버킷 sketch 를 합쳐 후보별 추정치로 상위 목록을 다시 계산
+ * 조회는 미리 계산된 목록을 그대로 반환하며, 오래된 버킷은 윈도우에서 빠지고 Redis TTL 로 만료된다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PopularKeywordService {
-    private final ElasticsearchClient esClient;
+    private static final List<String> TYPES = List.of("news", "board");
+    private static final long BUCKET_MILLIS = Duration.ofHours(1).toMillis();
+    private static final int DEPTH = 4;
+    private static final int WIDTH = 2048;
+    private static final int LOCAL_CANDIDATES = 50;
+    private static final int TOP_SIZE = 10;
+    private static final int MAX_KEYWORD_LENGTH = 30;
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${search.popular.window-hours:72}")
+    private int windowHours;
+
+    private final Map<String, LocalState> localStates = Map.of("news", new LocalState(), "board", new LocalState());
+    private final Map<String, WindowState> windowStates = Map.of("news", new WindowState(), "board", new WindowState());
 
     public List<PopularKeywordResponse> getPopularKeywordsByType(String type) {
+        WindowState window = windowStates.get(type);
+        if (window == null) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        return window.top;
+    }
+
+    public void record(String type, String keyword) {
+        LocalState state = localStates.get(type);
+        String normalized = normalize(keyword);
+        if (state == null || normalized == null) {
+            return;
+        }
+        long bucket = currentBucket();
+        synchronized (state) {
+            if (state.bucket != bucket) {
+                state.rollover(bucket);
+            }
+            state.pending.computeIfAbsent(bucket, b -> new Pending()).delta.add(normalized, 1);
+            state.candidates.offer(normalized, state.bucketSketch.add(normalized, 1));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.popular.sync-interval-ms:5000}")
+    public void sync() {
+        TYPES.forEach(type -> {
+            try {
+                flush(type);
+                refresh(type);
+            } catch (Exception e) {
+                log.warn("인기 검색어 동기화 실패 ({}), 이전 결과 유지: {}", type, e.getMessage());
+            }
+        });
+    }
+
+    private void flush(String type) {
+        LocalState state = localStates.get(type);
+        Map<Long, Pending> drained;
+        synchronized (state) {
+            Pending current = state.pending.get(state.bucket);
+            if (current != null) {
+                current.candidates.addAll(state.candidates.keywords());
+            }
+            drained = new HashMap<>(state.pending);
+            state.pending.clear();
+        }
+
+        Iterator<Map.Entry<Long, Pending>> it = drained.entrySet().iterator();
         try {
-            String json = """
-            {
-              "query": {
-                "bool": {
-                  "must": [
-                    {
-                      "range": {
-                        "@timestamp": {
-                          "gte": "now-3d/d"
-                        }
-                      }
-                    },
-                    {
-                      "term": {
-                        "type.keyword": {
-                          "value": "%s"
-                        }
-                      }
-                    }
-                  ]
-                }
-              },
-              "aggs": {
-                "top_keywords": {
-                  "terms": {
-                    "field": "keyword.keyword",
-                    "size": 10
-                  }
+            while (it.hasNext()) {
+                Map.Entry<Long, Pending> entry = it.next();
+                push(type, entry.getKey(), entry.getValue());
+                it.remove();
+            }
+        } finally {
+            // 전송하지 못한 증가분은 다음 주기에 다시 시도
+            if (!drained.isEmpty()) {
+                synchronized (state) {
+                    drained.forEach((bucket, pending) -> state.pending.merge(bucket, pending, Pending::merge));
                 }
-              }
             }
-            """.formatted(type);
-
-            SearchRequest request = SearchRequest.of(b -> b
-                    .index("search-logs")
-                    .withJson(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))
-            );
-            log.info("request_{}", request);
-            SearchResponse<Void> response = esClient.search(request, Void.class);
-
-            if (response.aggregations() == null) {
-                log.error("aggregation 결과가 null");
-                throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+    }
+
+    private void push(String type, long bucket, Pending pending) {
+        Duration ttl = Duration.ofMillis(BUCKET_MILLIS * (windowHours + 1L));
+        String sketchKey = sketchKey(type, bucket);
+        BitFieldSubCommands commands = BitFieldSubCommands.create();
+        for (int index = 0; index < pending.delta.cellCount(); index++) {
+            int value = pending.delta.cell(index);
+            if (value != 0) {
+                commands = commands.incr(BitFieldType.unsigned(32))
+                        .valueAt(Offset.offset(index).multipliedByTypeLength())
+                        .by(value);
             }
-            log.info("response.aggregations(){}", response.aggregations());
-            return response.aggregations()
-                    .get("top_keywords")
-                    .sterms()
-                    .buckets()
-                    .array()
-                    .stream()
-                    .map(bucket -> new PopularKeywordResponse(bucket.key().stringValue(), bucket.docCount()))
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            e.printStackTrace();
-            log.error("Elasticsearch 쿼리 중 예외 발생", e);
-            throw new CustomException(ErrorCode.INVALID_INPUT);
         }
+        redisTemplate.opsForValue().bitField(sketchKey, commands);
+        redisTemplate.expire(sketchKey, ttl);
+
+        if (!pending.candidates.isEmpty()) {
+            String candidateKey = candidateKey(type, bucket);
+            redisTemplate.opsForSet().add(candidateKey, pending.candidates.toArray(String[]::new));
+            redisTemplate.expire(candidateKey, ttl);
+        }
+    }
+
+    // 윈도우를 밀고, 닫힌 버킷은 한 번만 읽어 캐시한다 (현재/직전 버킷만 매번 다시 읽음)
+    private void refresh(String type) {
+        WindowState window = windowStates.get(type);
+        long current = currentBucket();
+        long oldest = current - windowHours + 1;
+        window.closed.keySet().removeIf(bucket -> bucket < oldest);
+
+        CountMinSketch total = new CountMinSketch(DEPTH, WIDTH);
+        Set<String> candidates = new HashSet<>();
+        for (long bucket = oldest; bucket <= current; bucket++) {
+            BucketData data = bucket >= current - 1
+                    ? load(type, bucket)
+                    : window.closed.computeIfAbsent(bucket, b -> load(type, b));
+            total.merge(data.sketch);
+            candidates.addAll(data.candidates);
+        }
+
+        TopKTracker top = new TopKTracker(TOP_SIZE);
+        candidates.forEach(keyword -> top.offer(keyword, total.estimate(keyword)));
+        window.top = top.sorted().stream()
+                .filter(candidate -> candidate.count() > 0)
+                .map(candidate -> new PopularKeywordResponse(candidate.keyword(), candidate.count()))
+                .toList();
+    }
+
+    private BucketData load(String type, long bucket) {
+        byte[] key = sketchKey(type, bucket).getBytes(StandardCharsets.UTF_8);
+        byte[] raw = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(key));
+        Set<String> candidates = redisTemplate.opsForSet().members(candidateKey(type, bucket));
+        return new BucketData(CountMinSketch.fromBytes(DEPTH, WIDTH, raw), candidates != null ? candidates : Set.of());
+    }
+
+    private static String normalize(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        String normalized = keyword.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty() || normalized.length() > MAX_KEYWORD_LENGTH) {
+            return null;
+        }
+        return normalized;
+    }
+
+    private static long currentBucket() {
+        return System.currentTimeMillis() / BUCKET_MILLIS;
+    }
+
+    private static String sketchKey(String type, long bucket) {
+        return "popular:" + type + ":" + bucket + ":cms";
+    }
+
+    private static String candidateKey(String type, long bucket) {
+        return "popular:" + type + ":" + bucket + ":candidates";
+    }
+
+    private static class LocalState {
+        private long bucket = -1;
+        private CountMinSketch bucketSketch;
+        private TopKTracker candidates;
+        private final Map<Long, Pending> pending = new HashMap<>();
+
+        // 지난 버킷의 최종 후보는 아직 전송 전인 증가분에 붙여 둔다
+        private void rollover(long next) {
+            Pending previous = pending.get(bucket);
+            if (previous != null) {
+                previous.candidates.addAll(candidates.keywords());
+            }
+            bucket = next;
+            bucketSketch = new CountMinSketch(DEPTH, WIDTH);
+            candidates = new TopKTracker(LOCAL_CANDIDATES);
+        }
+    }
+
+    private static class Pending {
+        private final CountMinSketch delta = new CountMinSketch(DEPTH, WIDTH);
+        private final Set<String> candidates = new HashSet<>();
+
+        private Pending merge(Pending other) {
+            delta.merge(other.delta);
+            candidates.addAll(other.candidates);
+            return this;
+        }
+    }
+
+    private static class WindowState {
+        private final Map<Long, BucketData> closed = new HashMap<>();
+        private volatile List<PopularKeywordResponse> top = List.of();
+    }
+
+    private record BucketData(CountMinSketch sketch, Set<String> candidates) {
     }
 }
@@ -0,0 +1,128 @@
+package com.newsvision.elasticsearch.service;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.elasticsearch.core.search.HitsMetadata;
+import com.newsvision.elasticsearch.dto.SearchPageResponse;
+import com.newsvision.elasticsearch.dto.SearchSort;
+import com.newsvision.global.exception.CustomException;
+import com.newsvision.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ES search_after 커서와 페이지 변환.
+ * 마지막 hit 의 sort 값 (score, createdAt, id) 또는 (createdAt, id) 를 Base64(URL-safe) 로 묶어 전달한다.
+ * DB fallback 커서는 score 가 없어 search_after 로 이어갈 수 없으므로 "db:" 로 구분하고, ES 경로에서는 받지 않는다.
+ */
+final class SearchAfterCursor {
+    private static final String DELIMITER = ",";
+    private static final String FALLBACK_PREFIX = "db:";
+
+    private SearchAfterCursor() {
+    }
+
+    static List<SortOptions> sortOptions(SearchSort sort) {
+        SortOptions createdAt = SortOptions.of(s -> s.field(f -> f.field("createdAt").order(SortOrder.Desc)));
+        SortOptions id = SortOptions.of(s -> s.field(f -> f.field("id").order(SortOrder.Desc)));
+        if (sort == SearchSort.RECENT) {
+            return List.of(createdAt, id);
+        }
+        return List.of(SortOptions.of(s -> s.score(sc -> sc.order(SortOrder.Desc))), createdAt, id);
+    }
+
+    static List<FieldValue> decode(String token, SearchSort sort) {
+        if (token == null || token.isBlank()) {
+            return List.of();
+        }
+        try {
+            String raw = decodeRaw(token);
+            if (raw.startsWith(FALLBACK_PREFIX)) {
+                throw new IllegalArgumentException();
+            }
+            String[] values = raw.split(DELIMITER);
+            int expected = sort == SearchSort.RECENT ? 2 : 3;
+            if (values.length != expected) {
+                throw new IllegalArgumentException();
+            }
+            return Arrays.stream(values)
+                    .map(value -> value.contains(".") ? FieldValue.of(Double.parseDouble(value)) : FieldValue.of(Long.parseLong(value)))
+                    .toList();
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+    }
+
+    // fallback 조회 위치: (마지막 id, 첫 페이지 총 건수). ES 커서면 마지막 sort 값(id)만 이어받고 총 건수는 다시 센다
+    static FallbackPosition decodeFallback(String token, SearchSort sort) {
+        if (token == null || token.isBlank()) {
+            return FallbackPosition.FIRST;
+        }
+        String raw;
+        try {
+            raw = decodeRaw(token);
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+        if (!raw.startsWith(FALLBACK_PREFIX)) {
+            List<FieldValue> values = decode(token, sort);
+            return new FallbackPosition(values.get(values.size() - 1).longValue(), null);
+        }
+        try {
+            String[] values = raw.substring(FALLBACK_PREFIX.length()).split(DELIMITER);
+            if (values.length != 2) {
+                throw new IllegalArgumentException();
+            }
+            return new FallbackPosition(Long.parseLong(values[0]), Long.parseLong(values[1]));
+        } catch (Exception e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT);
+        }
+    }
+
+    static String encodeFallback(long lastId, long totalHits) {
+        return encodeRaw(FALLBACK_PREFIX + lastId + DELIMITER + totalHits);
+    }
+
+    // size + 1 건으로 조회한 hits 를 한 페이지로 자르고 다음 커서를 만든다
+    static <S, R> SearchPageResponse<R> toPage(HitsMetadata<S> hits, int pageSize, Function<S, R> mapper) {
+        List<Hit<S>> all = hits.hits();
+        boolean hasNext = all.size() > pageSize;
+        List<Hit<S>> page = hasNext ? all.subList(0, pageSize) : all;
+        String nextCursor = hasNext ? encode(page.get(page.size() - 1).sort()) : null;
+        long totalHits = hits.total() != null ? hits.total().value() : page.size();
+        List<R> content = page.stream()
+                .map(Hit::source)
+                .filter(Objects::nonNull)
+                .map(mapper)
+                .toList();
+        return new SearchPageResponse<>(content, totalHits, nextCursor, hasNext);
+    }
+
+    static String encode(List<FieldValue> sortValues) {
+        String raw = sortValues.stream()
+                .map(value -> value.isDouble() ? String.valueOf(value.doubleValue()) : String.valueOf(value._get()))
+                .collect(Collectors.joining(DELIMITER));
+        return encodeRaw(raw);
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeRaw(String token) {
+        return new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+    }
+
+    // totalHits 가 null 이면 아직 세지 않은 상태
+    record FallbackPosition(long afterId, Long totalHits) {
+        static final FallbackPosition FIRST = new FallbackPosition(Long.MAX_VALUE, null);
+    }
+}
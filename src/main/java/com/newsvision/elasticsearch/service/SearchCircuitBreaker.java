@@ -0,0 +1,90 @@
+package com.newsvision.elasticsearch.service;
+
+import com.newsvision.global.exception.CustomException;
+import com.newsvision.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ES 호출용 서킷 브레이커.
+ * 연속 failure-threshold 번 실패하면 open-duration 동안 ES 를 호출하지 않고 바로 SEARCH_UNAVAILABLE 을 던진다.
+ * 호출하는 쪽은 이 예외를 받아 MySQL fallback 검색으로 넘긴다.
+ * open-duration 이 지나면 요청 하나만 ES 로 보내 보고(HALF_OPEN) 성공하면 닫고, 실패하면 다시 연다.
+ */
+@Slf4j
+@Component
+public class SearchCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    @Value("${search.circuit.failure-threshold:5}")
+    private int failureThreshold;
+    @Value("${search.circuit.open-duration-ms:30000}")
+    private long openDurationMs;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    public <T> T execute(Callable<T> call) {
+        if (!tryAcquire()) {
+            throw new CustomException(ErrorCode.SEARCH_UNAVAILABLE);
+        }
+        try {
+            T result = call.call();
+            onSuccess();
+            return result;
+        } catch (CustomException e) {
+            // 잘못된 커서 등 요청 오류는 ES 장애가 아니므로 상태를 바꾸지 않는다
+            release();
+            throw e;
+        } catch (Exception e) {
+            onFailure(e);
+            throw new CustomException(ErrorCode.SEARCH_UNAVAILABLE);
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    private boolean tryAcquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        // OPEN 이 끝났으면 한 요청만 HALF_OPEN 으로 통과
+        return current == State.OPEN
+                && System.currentTimeMillis() - openedAt >= openDurationMs
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN);
+    }
+
+    private void release() {
+        state.compareAndSet(State.HALF_OPEN, State.OPEN);
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.getAndSet(State.CLOSED) != State.CLOSED) {
+            log.info("ES 서킷 브레이커 닫힘, ES 검색 재개");
+        }
+    }
+
+    private void onFailure(Exception e) {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (state.get() == State.HALF_OPEN || failures >= failureThreshold) {
+            openedAt = System.currentTimeMillis();
+            if (state.getAndSet(State.OPEN) != State.OPEN) {
+                log.warn("ES 서킷 브레이커 열림: 연속 실패 {}회, {}ms 동안 fallback 검색 사용, {}",
+                        failures, openDurationMs, e.getMessage());
+            }
+        } else {
+            log.warn("ES 검색 실패 ({}/{}): {}", failures, failureThreshold, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.newsvision.elasticsearch.service;
+
+import com.newsvision.board.dto.response.BoardResponse;
+import com.newsvision.board.entity.Board;
+import com.newsvision.board.repository.BoardRepository;
+import com.newsvision.board.service.BoardCountService;
+import com.newsvision.elasticsearch.dto.SearchPageResponse;
+import com.newsvision.elasticsearch.dto.SearchSort;
+import com.newsvision.global.exception.CustomException;
+import com.newsvision.global.exception.ErrorCode;
+import com.newsvision.news.dto.response.NewsSummaryResponse;
+import com.newsvision.news.entity.News;
+import com.newsvision.news.repository.NewsRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * ES 를 쓸 수 없을 때(서킷 브레이커 OPEN, 타임아웃 등) 쓰는 MySQL FULLTEXT(ngram) 검색.
+ * 관련도 정렬 없이 최신순(id 역순, 작성일 순서와 같음) keyset 으로만 조회한다.
+ * 커서에는 마지막 id 와 첫 페이지에서 센 총 건수를 담아 다음 페이지부터는 COUNT 를 다시 하지 않는다.
+ * DB 로 부하가 몰리지 않도록 동시 실행 수를 max-concurrency 로 제한하고, 넘치면 기다리지 않고 SEARCH_UNAVAILABLE.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchFallbackService {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final NewsRepository newsRepository;
+    private final BoardRepository boardRepository;
+    private final BoardCountService boardCountService;
+
+    @Value("${search.fallback.max-concurrency:8}")
+    private int maxConcurrency;
+
+    private Semaphore permits;
+
+    @PostConstruct
+    public void init() {
+        permits = new Semaphore(maxConcurrency);
+    }
+
+    public SearchPageResponse<NewsSummaryResponse> searchNews(SearchQuery query, String cursor, int pageSize, SearchSort sort) {
+        return withPermit(() -> {
+            String keyword = booleanModeKeyword(query.keyword());
+            if (keyword.isEmpty()) {
+                return new SearchPageResponse<>(List.of(), 0, null, false);
+            }
+            SearchAfterCursor.FallbackPosition position = SearchAfterCursor.decodeFallback(cursor, sort);
+            List<Long> ids = newsRepository.findIdsByFulltext(keyword, position.afterId(), pageSize + 1);
+            boolean hasNext = ids.size() > pageSize;
+            List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+            List<News> page = sortByIds(newsRepository.findAllWithUserAndCategoryByIdIn(pageIds), pageIds, News::getId);
+            long totalHits = position.totalHits() != null ? position.totalHits() : newsRepository.countByFulltext(keyword);
+
+            String nextCursor = null;
+            if (hasNext && !page.isEmpty()) {
+                nextCursor = SearchAfterCursor.encodeFallback(page.get(page.size() - 1).getId(), totalHits);
+            }
+            return new SearchPageResponse<>(page.stream().map(this::toSummary).toList(), totalHits, nextCursor, hasNext);
+        });
+    }
+
+    public SearchPageResponse<BoardResponse> searchBoard(SearchQuery query, String cursor, int pageSize, SearchSort sort) {
+        return withPermit(() -> {
+            String keyword = booleanModeKeyword(query.keyword());
+            if (keyword.isEmpty()) {
+                return new SearchPageResponse<>(List.of(), 0, null, false);
+            }
+            SearchAfterCursor.FallbackPosition position = SearchAfterCursor.decodeFallback(cursor, sort);
+            List<Long> ids = boardRepository.findIdsByFulltext(keyword, position.afterId(), pageSize + 1);
+            boolean hasNext = ids.size() > pageSize;
+            List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+            List<Board> page = sortByIds(boardRepository.findAllWithUserAndCategoryByIdIn(pageIds), pageIds, Board::getId);
+            long totalHits = position.totalHits() != null ? position.totalHits() : boardRepository.countByFulltext(keyword);
+            Map<Long, BoardCountService.Counts> counts = boardCountService.countByBoardIds(pageIds);
+
+            String nextCursor = null;
+            if (hasNext && !page.isEmpty()) {
+                nextCursor = SearchAfterCursor.encodeFallback(page.get(page.size() - 1).getId(), totalHits);
+            }
+            List<BoardResponse> content = page.stream()
+                    .map(board -> toResponse(board, counts.getOrDefault(board.getId(), BoardCountService.Counts.EMPTY)))
+                    .toList();
+            return new SearchPageResponse<>(content, totalHits, nextCursor, hasNext);
+        });
+    }
+
+    private <T> T withPermit(Supplier<T> search) {
+        if (!permits.tryAcquire()) {
+            log.warn("fallback 검색 동시 실행 한도 초과: {}", maxConcurrency);
+            throw new CustomException(ErrorCode.SEARCH_UNAVAILABLE);
+        }
+        try {
+            return search.get();
+        } catch (CustomException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("fallback 검색 실패", e);
+            throw new CustomException(ErrorCode.SEARCH_UNAVAILABLE);
+        } finally {
+            permits.release();
+        }
+    }
+
+    // 단어마다 +"단어" (모두 포함, ngram 연속 일치). 검색 연산자로 쓰이는 문자는 제거
+    static String booleanModeKeyword(String keyword) {
+        StringBuilder sb = new StringBuilder();
+        for (String word : keyword.split(" ")) {
+            String cleaned = word.replaceAll("[+\\-<>()~*\"@]", "");
+            if (!cleaned.isEmpty()) {
+                if (!sb.isEmpty()) {
+                    sb.append(' ');
+                }
+                sb.append("+\"").append(cleaned).append('"');
+            }
+        }
+        return sb.toString();
+    }
+
+    // IN 조회 결과를 FULLTEXT 조회 순서(id 역순)로 다시 정렬
+    private static <E> List<E> sortByIds(List<E> entities, List<Long> ids, Function<E, Long> idOf) {
+        Map<Long, Integer> order = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            order.put(ids.get(i), i);
+        }
+        return entities.stream()
+                .sorted(Comparator.comparing(entity -> order.get(idOf.apply(entity))))
+                .toList();
+    }
+
+    private NewsSummaryResponse toSummary(News news) {
+        return NewsSummaryResponse.builder()
+                .id(news.getId())
+                .title(news.getTitle())
+                .image(news.getImage())
+                .category(news.getCategory().getName())
+                .nickname(news.getUser().getNickname())
+                .createdAt(String.valueOf(news.getCreatedAt().truncatedTo(ChronoUnit.SECONDS)))
+                .build();
+    }
+
+    // ES 검색 결과와 같은 날짜 형식으로 맞춘다
+    private BoardResponse toResponse(Board board, BoardCountService.Counts counts) {
+        BoardResponse response = new BoardResponse(board, counts.getLikeCount(), counts.getCommentCount());
+        response.setCreatedAt(board.getCreatedAt().format(FORMATTER));
+        return response;
+    }
+}
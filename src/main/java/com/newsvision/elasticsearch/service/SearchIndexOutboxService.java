@@ -0,0 +1,46 @@
+package com.newsvision.elasticsearch.service;
+
+import com.newsvision.elasticsearch.entity.SearchIndexOutbox;
+import com.newsvision.elasticsearch.repository.SearchIndexOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 검색 인덱스 변경 요청을 호출한 쪽 트랜잭션에 함께 기록한다.
+ * 문서 내용은 인덱싱 시점의 DB 상태로 만들기 때문에 생성/수정/삭제 구분 없이 대상 id 만 남긴다.
+ * SearchIndexer 는 claimReady 로 처리할 행을 선점한 뒤 트랜잭션 밖에서 ES 에 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class SearchIndexOutboxService {
+    private final SearchIndexOutboxRepository searchIndexOutboxRepository;
+
+    @Value("${search.outbox.lease-seconds:60}")
+    private long leaseSeconds;
+
+    public void enqueueNews(Long newsId) {
+        searchIndexOutboxRepository.save(SearchIndexOutbox.of(SearchIndexOutbox.TargetType.NEWS, newsId));
+    }
+
+    public void enqueueBoard(Long boardId) {
+        searchIndexOutboxRepository.save(SearchIndexOutbox.of(SearchIndexOutbox.TargetType.BOARD, boardId));
+    }
+
+    // 잠금은 이 트랜잭션 동안만 걸고, 처리하는 동안은 임대 시각으로 다른 서버의 조회에서 빠진다.
+    // 처리하던 서버가 죽으면 임대가 끝난 뒤 다시 처리된다 (문서는 DB 상태로 덮어쓰므로 중복 처리돼도 결과가 같다)
+    public List<SearchIndexOutbox> claimReady(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<SearchIndexOutbox> batch = searchIndexOutboxRepository.findReadyForUpdate(now, limit);
+        if (!batch.isEmpty()) {
+            searchIndexOutboxRepository.lease(batch.stream().map(SearchIndexOutbox::getId).toList(),
+                    now.plusSeconds(leaseSeconds));
+        }
+        return batch;
+    }
+}
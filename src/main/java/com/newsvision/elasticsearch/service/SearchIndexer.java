@@ -0,0 +1,152 @@
+package com.newsvision.elasticsearch.service;
+
+import com.newsvision.board.repository.BoardRepository;
+import com.newsvision.board.service.BoardCountService;
+import com.newsvision.elasticsearch.document.BoardDocument;
+import com.newsvision.elasticsearch.document.NewsDocument;
+import com.newsvision.elasticsearch.entity.SearchIndexOutbox;
+import com.newsvision.elasticsearch.entity.SearchIndexOutbox.TargetType;
+import com.newsvision.elasticsearch.repository.BoardSearchRepository;
+import com.newsvision.elasticsearch.repository.NewsSearchRepository;
+import com.newsvision.elasticsearch.repository.SearchIndexOutboxRepository;
+import com.newsvision.global.cache.CacheType;
+import com.newsvision.news.repository.NewsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * search_index_outbox 를 주기적으로 읽어 ES 에 bulk 로 반영한다.
+ * 여러 서버가 동시에 돌아도 SearchIndexOutboxService.claimReady 로 선점한 행만 처리한다.
+ * 문서는 반영 시점의 DB 상태로 다시 만들고(없으면 삭제) 같은 id 로 덮어쓰므로, 중복 처리되거나 재시도돼도 결과가 같다.
+ * 실패한 대상만 지수 백오프로 다시 예약한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexer {
+    private static final long MAX_BACKOFF_SECONDS = 600;
+
+    @Value("${search.outbox.batch-size:500}")
+    private int batchSize;
+
+    private final SearchIndexOutboxRepository searchIndexOutboxRepository;
+    private final SearchIndexOutboxService searchIndexOutboxService;
+    private final NewsRepository newsRepository;
+    private final BoardRepository boardRepository;
+    private final BoardCountService boardCountService;
+    private final NewsSearchService newsSearchService;
+    private final BoardSearchService boardSearchService;
+    private final NewsSearchRepository newsSearchRepository;
+    private final BoardSearchRepository boardSearchRepository;
+    private final SearchReindexService searchReindexService;
+    private final SearchResultCache searchResultCache;
+
+    @Scheduled(fixedDelayString = "${search.outbox.poll-interval-ms:1000}")
+    public void drain() {
+        // 전체 재구성 중에는 대기열을 쌓아 두었다가 alias 교체 후 새 인덱스에 반영
+        if (searchReindexService.isRunning()) {
+            return;
+        }
+        List<SearchIndexOutbox> batch = searchIndexOutboxService.claimReady(batchSize);
+        if (batch.isEmpty()) {
+            return;
+        }
+        Map<TargetType, Set<Long>> targets = batch.stream()
+                .collect(Collectors.groupingBy(SearchIndexOutbox::getTargetType,
+                        () -> new EnumMap<>(TargetType.class),
+                        Collectors.mapping(SearchIndexOutbox::getTargetId, Collectors.toCollection(LinkedHashSet::new))));
+
+        Set<Long> failedNews = indexNews(targets.getOrDefault(TargetType.NEWS, Set.of()));
+        Set<Long> failedBoards = indexBoards(targets.getOrDefault(TargetType.BOARD, Set.of()));
+        // 반영된 인덱스의 검색 결과 캐시 무효화
+        if (targets.containsKey(TargetType.NEWS)) {
+            searchResultCache.bumpGeneration(CacheType.SEARCH_NEWS);
+        }
+        if (targets.containsKey(TargetType.BOARD)) {
+            searchResultCache.bumpGeneration(CacheType.SEARCH_BOARD);
+        }
+
+        List<SearchIndexOutbox> done = new ArrayList<>();
+        List<SearchIndexOutbox> retry = new ArrayList<>();
+        for (SearchIndexOutbox outbox : batch) {
+            Set<Long> failed = outbox.getTargetType() == TargetType.NEWS ? failedNews : failedBoards;
+            if (failed.contains(outbox.getTargetId())) {
+                outbox.scheduleRetry(LocalDateTime.now().plusSeconds(backoffSeconds(outbox.getRetryCount())));
+                retry.add(outbox);
+            } else {
+                done.add(outbox);
+            }
+        }
+        searchIndexOutboxRepository.deleteAllInBatch(done);
+        if (!retry.isEmpty()) {
+            searchIndexOutboxRepository.saveAll(retry);
+            log.warn("검색 인덱싱 실패 {}건 재시도 예약", retry.size());
+        }
+    }
+
+    private Set<Long> indexNews(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        List<NewsDocument> documents = newsRepository.findAllWithUserAndCategoryByIdIn(ids).stream()
+                .map(newsSearchService::toDocument)
+                .toList();
+        return bulk("뉴스", newsSearchRepository, ids, documents, NewsDocument::getId);
+    }
+
+    private Set<Long> indexBoards(Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        Map<Long, BoardCountService.Counts> counts = boardCountService.countByBoardIds(ids);
+        List<BoardDocument> documents = boardRepository.findAllWithUserAndCategoryByIdIn(ids).stream()
+                .map(board -> {
+                    BoardCountService.Counts count = counts.getOrDefault(board.getId(), BoardCountService.Counts.EMPTY);
+                    return boardSearchService.toDocument(board, count.getLikeCount(), count.getCommentCount());
+                })
+                .toList();
+        return bulk("게시글", boardSearchRepository, ids, documents, BoardDocument::getId);
+    }
+
+    // DB 에 남아 있는 대상은 색인, 사라진 대상은 삭제하고 실패한 id 를 반환
+    private <T> Set<Long> bulk(String label, ElasticsearchRepository<T, Long> repository, Set<Long> ids,
+                               List<T> documents, Function<T, Long> idOf) {
+        Set<Long> deleted = new HashSet<>(ids);
+        documents.forEach(doc -> deleted.remove(idOf.apply(doc)));
+
+        Set<Long> failed = new HashSet<>();
+        try {
+            if (!documents.isEmpty()) {
+                repository.saveAll(documents);
+            }
+        } catch (BulkFailureException e) {
+            e.getFailedDocuments().keySet().forEach(id -> failed.add(Long.valueOf(id)));
+        } catch (Exception e) {
+            log.warn("{} bulk 인덱싱 실패: {}", label, e.getMessage());
+            documents.forEach(doc -> failed.add(idOf.apply(doc)));
+        }
+        try {
+            if (!deleted.isEmpty()) {
+                repository.deleteAllById(deleted);
+            }
+        } catch (Exception e) {
+            log.warn("{} 인덱스 삭제 실패: {}", label, e.getMessage());
+            failed.addAll(deleted);
+        }
+        return failed;
+    }
+
+    private long backoffSeconds(int retryCount) {
+        return Math.min(1L << Math.min(retryCount, 10), MAX_BACKOFF_SECONDS);
+    }
+}
@@ -0,0 +1,70 @@
+package com.newsvision.elasticsearch.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 여러 요청 스레드가 넣고 writer 스레드 하나가 꺼내는 고정 크기 lock-free 링 버퍼.
+ * 칸마다 sequence 를 두어 생산자는 CAS 로 자리만 잡고, 가득 차면 기다리지 않고 false 를 반환한다.
+ */
+final class SearchLogRingBuffer<T> {
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private long consumerIndex;
+
+    SearchLogRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    boolean offer(T item) {
+        long position = producerIndex.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (producerIndex.compareAndSet(position, position + 1)) {
+                    slots.set(index, item);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = producerIndex.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                position = producerIndex.get();
+            }
+        }
+    }
+
+    // writer 스레드 전용
+    int drain(Consumer<T> consumer, int max) {
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (consumerIndex & mask);
+            if (sequences.get(index) != consumerIndex + 1) {
+                break;
+            }
+            T item = slots.get(index);
+            slots.set(index, null);
+            sequences.set(index, consumerIndex + mask + 1);
+            consumerIndex++;
+            consumer.accept(item);
+            drained++;
+        }
+        return drained;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+}
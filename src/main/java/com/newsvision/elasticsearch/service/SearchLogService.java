@@ -0,0 +1,166 @@
+package com.newsvision.elasticsearch.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newsvision.elasticsearch.dto.SearchLogEvent;
+import com.newsvision.elasticsearch.dto.SearchLogStatsResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 검색 로그를 요청 스레드에서는 링 버퍼에 넣기만 하고, writer 스레드가 모아서 기록한다.
+ * sink=elasticsearch 면 search-logs 인덱스에 _bulk 로 저장하고 실패 시 로컬 파일(SEARCH_LOGGER)로 남기며,
+ * sink=file 이면 파일에만 남긴다. 버퍼가 가득 차면 기다리지 않고 버린 뒤 dropped 로 집계한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchLogService {
+    private static final Logger fileLogger = LoggerFactory.getLogger("SEARCH_LOGGER");
+    private static final String INDEX = "search-logs";
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final ObjectMapper objectMapper;
+
+    @Value("${search.log.capacity:8192}")
+    private int capacity;
+    @Value("${search.log.batch-size:500}")
+    private int batchSize;
+    @Value("${search.log.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+    @Value("${search.log.sink:elasticsearch}")
+    private String sink;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder fileFallback = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private SearchLogRingBuffer<SearchLogEvent> buffer;
+    private ExecutorService writer;
+    private volatile boolean running = true;
+
+    @PostConstruct
+    public void start() {
+        buffer = new SearchLogRingBuffer<>(capacity);
+        writer = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "search-log-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.submit(this::runWriter);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.shutdown();
+        writer.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    public void record(SearchLogEvent event) {
+        if (buffer.offer(event)) {
+            enqueued.increment();
+        } else {
+            dropped.increment();
+        }
+    }
+
+    public SearchLogStatsResponse getStats() {
+        return SearchLogStatsResponse.builder()
+                .sink(sink)
+                .capacity(buffer.capacity())
+                .enqueued(enqueued.sum())
+                .dropped(dropped.sum())
+                .written(written.sum())
+                .fileFallback(fileFallback.sum())
+                .failed(failed.sum())
+                .build();
+    }
+
+    // batch-size 만큼 모이거나 flush-interval 이 지나면 기록, 종료 시 남은 로그까지 기록
+    private void runWriter() {
+        List<SearchLogEvent> batch = new ArrayList<>(batchSize);
+        long lastFlush = System.currentTimeMillis();
+        while (running) {
+            int drained = buffer.drain(batch::add, batchSize - batch.size());
+            long now = System.currentTimeMillis();
+            if (batch.size() >= batchSize || (!batch.isEmpty() && now - lastFlush >= flushIntervalMs)) {
+                write(batch);
+                batch.clear();
+                lastFlush = now;
+            } else if (drained == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        while (buffer.drain(batch::add, batchSize) > 0 || !batch.isEmpty()) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<SearchLogEvent> batch) {
+        List<Map<String, Object>> documents = batch.stream().map(this::toDocument).toList();
+        if (!"elasticsearch".equalsIgnoreCase(sink)) {
+            writeFile(documents);
+            written.add(documents.size());
+            return;
+        }
+        try {
+            BulkRequest.Builder request = new BulkRequest.Builder();
+            documents.forEach(document -> request.operations(op -> op.index(i -> i.index(INDEX).document(document))));
+            BulkResponse response = elasticsearchClient.bulk(request.build());
+            long failedItems = response.errors()
+                    ? response.items().stream().filter(item -> item.error() != null).count()
+                    : 0;
+            failed.add(failedItems);
+            written.add(documents.size() - failedItems);
+        } catch (Exception e) {
+            log.warn("검색 로그 bulk 저장 실패, 파일로 기록: {}건, {}", documents.size(), e.getMessage());
+            writeFile(documents);
+            fileFallback.add(documents.size());
+        }
+    }
+
+    private void writeFile(List<Map<String, Object>> documents) {
+        for (Map<String, Object> document : documents) {
+            try {
+                fileLogger.info(objectMapper.writeValueAsString(document));
+            } catch (Exception e) {
+                failed.increment();
+            }
+        }
+    }
+
+    private Map<String, Object> toDocument(SearchLogEvent event) {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("@timestamp", Instant.ofEpochMilli(event.getTimestamp()).toString());
+        document.put("type", event.getType());
+        document.put("keyword", event.getKeyword());
+        document.put("hitCount", event.getHitCount());
+        document.put("latencyMs", event.getLatencyMs());
+        document.put("userSegment", event.getUserSegment());
+        return document;
+    }
+}
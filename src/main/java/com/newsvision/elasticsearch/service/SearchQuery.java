@@ -0,0 +1,58 @@
+package com.newsvision.elasticsearch.service;
+
+import java.util.Locale;
+
+/**
+ * 검색어 정규화와 분석기 선택을 한 번에 처리한 결과.
+ * 앞뒤 공백 제거, 연속 공백은 하나로, 영문은 소문자로 바꾸고 같은 순회에서 한글/영문 포함 여부를 본다.
+ */
+final class SearchQuery {
+    private final String keyword;
+    private final String analyzerSuffix;
+
+    private SearchQuery(String keyword, String analyzerSuffix) {
+        this.keyword = keyword;
+        this.analyzerSuffix = analyzerSuffix;
+    }
+
+    static SearchQuery of(String raw) {
+        String text = raw == null ? "" : raw.trim();
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean hasKor = false;
+        boolean hasEng = false;
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (Character.isWhitespace(ch)) {
+                space = true;
+                continue;
+            }
+            if (space) {
+                normalized.append(' ');
+                space = false;
+            }
+            if ((ch >= 'ㄱ' && ch <= 'ㅣ') || (ch >= '가' && ch <= '힣')) {
+                hasKor = true;
+            } else if ((ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z')) {
+                hasEng = true;
+            }
+            normalized.append(ch);
+        }
+        String suffix = hasKor && hasEng ? "mixed" : hasKor ? "kor" : "eng";
+        return new SearchQuery(normalized.toString().toLowerCase(Locale.ROOT), suffix);
+    }
+
+    String keyword() {
+        return keyword;
+    }
+
+    String analyzerSuffix() {
+        return analyzerSuffix;
+    }
+
+    // 인덱스 / 분석기 / 정렬 / 페이지 크기 / 커서 / 정규화된 검색어
+    String cacheKey(String index, Object sort, int pageSize, String cursor) {
+        return String.join("|", index, analyzerSuffix, String.valueOf(sort), String.valueOf(pageSize),
+                cursor == null ? "" : cursor, keyword);
+    }
+}
@@ -0,0 +1,294 @@
+package com.newsvision.elasticsearch.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.indices.IndexSettings;
+import co.elastic.clients.elasticsearch.indices.IndexSettingsAnalysis;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import com.newsvision.board.entity.Board;
+import com.newsvision.board.repository.BoardRepository;
+import com.newsvision.board.service.BoardCountService;
+import com.newsvision.elasticsearch.document.BoardDocument;
+import com.newsvision.elasticsearch.document.NewsDocument;
+import com.newsvision.elasticsearch.dto.ReindexStatusResponse;
+import com.newsvision.elasticsearch.entity.SearchIndexOutbox.TargetType;
+import com.newsvision.global.cache.CacheType;
+import com.newsvision.global.exception.CustomException;
+import com.newsvision.global.exception.ErrorCode;
+import com.newsvision.news.entity.News;
+import com.newsvision.news.repository.NewsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * MySQL 기준으로 news / boards 인덱스를 새 버전 인덱스에 다시 만들고 alias 를 원자적으로 교체한다.
+ * 1. 현재 매핑(@Document 클래스)과 analysis 설정으로 refresh 를 끈 새 인덱스 생성
+ * 2. id keyset 청크로 DB 를 읽고, 문서 생성 + bulk 저장은 워커 스레드에서 병렬 처리
+ * 3. refresh/replica 복구 후 alias 교체, 이전 인덱스 삭제
+ * 진행 중에는 Redis 잠금으로 outbox 반영을 멈추고, 끝난 뒤 쌓인 변경분이 새 인덱스에 반영된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchReindexService {
+    public static final String REINDEX_LOCK_KEY = "search:reindex:lock";
+    private static final Duration LOCK_TTL = Duration.ofHours(2);
+    // 내가 건 잠금일 때만 지운다 (TTL 이 지나 다음 작업이 건 잠금을 지우지 않도록)
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+    private static final DateTimeFormatter VERSION_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    @Value("${search.reindex.chunk-size:1000}")
+    private int chunkSize;
+    @Value("${search.reindex.workers:4}")
+    private int workers;
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final StringRedisTemplate redisTemplate;
+    private final NewsRepository newsRepository;
+    private final BoardRepository boardRepository;
+    private final BoardCountService boardCountService;
+    private final NewsSearchService newsSearchService;
+    private final BoardSearchService boardSearchService;
+    private final SearchResultCache searchResultCache;
+
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor();
+    private final Map<TargetType, ReindexJob> jobs = new ConcurrentHashMap<>();
+
+    public ReindexStatusResponse start(TargetType type) {
+        String lockToken = type.name() + ":" + UUID.randomUUID();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REINDEX_LOCK_KEY, lockToken, LOCK_TTL))) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST);
+        }
+        String alias = aliasOf(type);
+        ReindexJob job = new ReindexJob(alias, alias + "_" + LocalDateTime.now().format(VERSION_FORMATTER));
+        jobs.put(type, job);
+        jobExecutor.submit(() -> run(type, job, lockToken));
+        return job.toResponse();
+    }
+
+    public boolean isRunning() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(REINDEX_LOCK_KEY));
+    }
+
+    public List<ReindexStatusResponse> getStatus() {
+        return jobs.values().stream().map(ReindexJob::toResponse).toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    private void run(TargetType type, ReindexJob job, String lockToken) {
+        try {
+            IndexSettings current = currentSettings(job.alias);
+            createIndex(type, job, current);
+            if (type == TargetType.NEWS) {
+                load(job, newsRepository::findChunkAfter, News::getId,
+                        chunk -> chunk.stream().map(newsSearchService::toDocument).toList());
+            } else {
+                load(job, boardRepository::findChunkAfter, Board::getId, this::toBoardDocuments);
+            }
+            String replicas = current != null && current.numberOfReplicas() != null ? current.numberOfReplicas() : "1";
+            elasticsearchClient.indices().putSettings(p -> p
+                    .index(job.indexName)
+                    .settings(s -> s.refreshInterval(t -> t.time("1s")).numberOfReplicas(replicas)));
+            elasticsearchClient.indices().refresh(r -> r.index(job.indexName));
+            swapAlias(job);
+            searchResultCache.bumpGeneration(type == TargetType.NEWS ? CacheType.SEARCH_NEWS : CacheType.SEARCH_BOARD);
+            job.finish("COMPLETED", null);
+            log.info("검색 인덱스 재구성 완료: {} -> {}, {}건", job.alias, job.indexName, job.processed.get());
+        } catch (Exception e) {
+            log.error("검색 인덱스 재구성 실패: {}", job.alias, e);
+            job.finish("FAILED", e.getMessage());
+            deleteQuietly(job.indexName);
+        } finally {
+            unlock(lockToken);
+        }
+    }
+
+    private void unlock(String lockToken) {
+        try {
+            Long deleted = redisTemplate.execute(UNLOCK_SCRIPT, List.of(REINDEX_LOCK_KEY), lockToken);
+            if (!Long.valueOf(1).equals(deleted)) {
+                log.warn("재구성 잠금이 이미 만료되어 다른 작업의 잠금은 그대로 둡니다: {}", lockToken);
+            }
+        } catch (Exception e) {
+            log.warn("재구성 잠금 해제 실패 (TTL 로 만료): {}, {}", lockToken, e.getMessage());
+        }
+    }
+
+    private void createIndex(TargetType type, ReindexJob job, IndexSettings current) throws IOException {
+        Class<?> documentClass = type == TargetType.NEWS ? NewsDocument.class : BoardDocument.class;
+        String mapping = elasticsearchOperations.indexOps(documentClass).createMapping().toJson();
+        IndexSettingsAnalysis analysis = loadAnalysis(job.alias, current);
+
+        elasticsearchClient.indices().create(c -> c
+                .index(job.indexName)
+                .settings(s -> s.refreshInterval(t -> t.time("-1")).numberOfReplicas("0").analysis(analysis))
+                .mappings(m -> m.withJson(new StringReader(mapping))));
+    }
+
+    // DB 는 한 스레드에서 순서대로 읽고, 문서 생성과 bulk 저장만 워커에 넘긴다 (동시 청크 수 제한)
+    private <E> void load(ReindexJob job, ChunkReader<E> reader, Function<E, Long> idOf,
+                          Function<List<E>, List<?>> toDocuments) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        Semaphore inFlight = new Semaphore(workers * 2);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        IndexCoordinates target = IndexCoordinates.of(job.indexName);
+        try {
+            long lastId = 0L;
+            while (failure.get() == null) {
+                List<E> chunk = reader.read(lastId, PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                lastId = idOf.apply(chunk.get(chunk.size() - 1));
+                inFlight.acquire();
+                pool.submit(() -> {
+                    try {
+                        elasticsearchOperations.save(toDocuments.apply(chunk), target);
+                        job.processed.addAndGet(chunk.size());
+                    } catch (Exception e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } finally {
+            pool.shutdown();
+            pool.awaitTermination(1, TimeUnit.HOURS);
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    private List<BoardDocument> toBoardDocuments(List<Board> boards) {
+        Map<Long, BoardCountService.Counts> counts = boardCountService.countByBoardIds(boards.stream().map(Board::getId).toList());
+        return boards.stream()
+                .map(board -> {
+                    BoardCountService.Counts count = counts.getOrDefault(board.getId(), BoardCountService.Counts.EMPTY);
+                    return boardSearchService.toDocument(board, count.getLikeCount(), count.getCommentCount());
+                })
+                .toList();
+    }
+
+    // alias 가 아직 실제 인덱스 이름으로 쓰이고 있으면 그 인덱스를 지우면서 alias 로 전환
+    private void swapAlias(ReindexJob job) throws IOException {
+        List<Action> actions = new ArrayList<>();
+        Set<String> oldIndices = Set.of();
+        if (elasticsearchClient.indices().existsAlias(e -> e.name(job.alias)).value()) {
+            oldIndices = elasticsearchClient.indices().getAlias(g -> g.name(job.alias)).result().keySet();
+            oldIndices.forEach(old -> actions.add(Action.of(a -> a.remove(r -> r.index(old).alias(job.alias)))));
+        } else if (elasticsearchClient.indices().exists(e -> e.index(job.alias)).value()) {
+            actions.add(Action.of(a -> a.removeIndex(r -> r.index(job.alias))));
+        }
+        actions.add(Action.of(a -> a.add(ad -> ad.index(job.indexName).alias(job.alias))));
+        elasticsearchClient.indices().updateAliases(u -> u.actions(actions));
+
+        oldIndices.stream()
+                .filter(old -> !old.equals(job.indexName))
+                .forEach(this::deleteQuietly);
+    }
+
+    private IndexSettings currentSettings(String alias) throws IOException {
+        if (!elasticsearchClient.indices().exists(e -> e.index(alias)).value()) {
+            return null;
+        }
+        IndexSettings settings = elasticsearchClient.indices().getSettings(g -> g.index(alias))
+                .result().values().iterator().next().settings();
+        return settings != null && settings.index() != null ? settings.index() : settings;
+    }
+
+    // 현재 인덱스의 analysis 설정을 그대로 복사하고, 인덱스가 없을 때만 classpath:elasticsearch/{alias}-analysis.json 사용.
+    // 둘 다 없으면 매핑의 analyzer(korean_analyzer 등)를 만들 수 없으므로 작업을 실패시킨다
+    private IndexSettingsAnalysis loadAnalysis(String alias, IndexSettings current) throws IOException {
+        if (current != null && current.analysis() != null) {
+            return current.analysis();
+        }
+        ClassPathResource resource = new ClassPathResource("elasticsearch/" + alias + "-analysis.json");
+        if (!resource.exists()) {
+            throw new IllegalStateException(alias + " analysis 설정을 찾을 수 없습니다");
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return IndexSettingsAnalysis.of(a -> a.withJson(in));
+        }
+    }
+
+    private void deleteQuietly(String indexName) {
+        try {
+            elasticsearchClient.indices().delete(d -> d.index(indexName).ignoreUnavailable(true));
+        } catch (Exception e) {
+            log.warn("인덱스 삭제 실패: {}, {}", indexName, e.getMessage());
+        }
+    }
+
+    private String aliasOf(TargetType type) {
+        return elasticsearchOperations.getIndexCoordinatesFor(
+                type == TargetType.NEWS ? NewsDocument.class : BoardDocument.class).getIndexName();
+    }
+
+    @FunctionalInterface
+    private interface ChunkReader<E> {
+        List<E> read(Long lastId, PageRequest pageable);
+    }
+
+    private static class ReindexJob {
+        private final String alias;
+        private final String indexName;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong processed = new AtomicLong();
+        private volatile String state = "RUNNING";
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private ReindexJob(String alias, String indexName) {
+            this.alias = alias;
+            this.indexName = indexName;
+        }
+
+        private void finish(String state, String error) {
+            this.state = state;
+            this.error = error;
+            this.finishedAt = LocalDateTime.now();
+        }
+
+        private ReindexStatusResponse toResponse() {
+            return ReindexStatusResponse.builder()
+                    .alias(alias)
+                    .indexName(indexName)
+                    .state(state)
+                    .processed(processed.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.newsvision.elasticsearch.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.newsvision.global.cache.CacheType;
+import com.newsvision.global.cache.TwoLevelCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 검색 결과 캐시 (TwoLevelCache 위에 세대 번호를 붙인 키 사용).
+ * 인덱스가 바뀌면 SearchIndexer 가 Redis 의 세대 번호를 올리고, 각 노드는 주기적으로 읽어 와서
+ * 이전 세대 키는 더 이상 조회되지 않고 TTL 로 사라진다 (KEYS 스캔 없이 전체 무효화).
+ * 같은 키의 동시 miss 는 Caffeine 이 한 번만 로딩하므로 ES 호출도 한 번이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchResultCache {
+    private static final String GENERATION_KEY_PREFIX = "search:generation:";
+    private static final List<CacheType> TYPES = List.of(CacheType.SEARCH_NEWS, CacheType.SEARCH_BOARD);
+
+    private final TwoLevelCache twoLevelCache;
+    private final StringRedisTemplate redisTemplate;
+
+    private final Map<CacheType, AtomicLong> generations = new EnumMap<>(Map.of(
+            CacheType.SEARCH_NEWS, new AtomicLong(),
+            CacheType.SEARCH_BOARD, new AtomicLong()));
+
+    public <T> T get(CacheType type, String key, TypeReference<T> valueType, Supplier<T> loader) {
+        return twoLevelCache.get(type, generations.get(type).get() + ":" + key, valueType, loader);
+    }
+
+    // 통합 검색: 뉴스/게시글 어느 쪽 세대가 바뀌어도 이전 결과를 보지 않도록 두 세대를 모두 키에 포함
+    public <T> T getUnified(String key, TypeReference<T> valueType, Supplier<T> loader) {
+        String generationKey = generations.get(CacheType.SEARCH_NEWS).get() + ":"
+                + generations.get(CacheType.SEARCH_BOARD).get() + ":" + key;
+        return twoLevelCache.get(CacheType.SEARCH_ALL, generationKey, valueType, loader);
+    }
+
+    public void bumpGeneration(CacheType type) {
+        try {
+            Long next = redisTemplate.opsForValue().increment(GENERATION_KEY_PREFIX + type.getCacheName());
+            generations.get(type).set(next != null ? next : generations.get(type).get() + 1);
+        } catch (Exception e) {
+            log.warn("검색 캐시 세대 갱신 실패, 로컬만 갱신: {}, {}", type.getCacheName(), e.getMessage());
+            generations.get(type).incrementAndGet();
+        }
+    }
+
+    // 다른 노드의 인덱서가 올린 세대 번호 반영
+    @Scheduled(fixedDelayString = "${search.cache.generation-poll-ms:1000}")
+    public void syncGenerations() {
+        for (CacheType type : TYPES) {
+            try {
+                String value = redisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + type.getCacheName());
+                if (value != null) {
+                    generations.get(type).set(Long.parseLong(value));
+                }
+            } catch (Exception e) {
+                log.warn("검색 캐시 세대 조회 실패: {}, {}", type.getCacheName(), e.getMessage());
+            }
+        }
+    }
+}
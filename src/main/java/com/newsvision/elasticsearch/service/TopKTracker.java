@@ -0,0 +1,50 @@
+package com.newsvision.elasticsearch.service;
+
+import java.util.*;
+
+/**
+ * 추정치 기준 상위 K 개 키워드만 유지하는 min-heap.
+ * 이미 있는 키워드는 값을 갱신하고, 가득 찼으면 최소값보다 클 때만 교체한다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화한다.
+ */
+final class TopKTracker {
+    private static final Comparator<Candidate> ORDER = Comparator.comparingLong(Candidate::count)
+            .thenComparing(Candidate::keyword, Comparator.reverseOrder());
+
+    private final int capacity;
+    private final Map<String, Candidate> byKeyword = new HashMap<>();
+    private final PriorityQueue<Candidate> heap = new PriorityQueue<>(ORDER);
+
+    TopKTracker(int capacity) {
+        this.capacity = capacity;
+    }
+
+    void offer(String keyword, long count) {
+        Candidate previous = byKeyword.get(keyword);
+        if (previous != null) {
+            heap.remove(previous);
+        } else if (heap.size() >= capacity) {
+            if (ORDER.compare(heap.peek(), new Candidate(keyword, count)) >= 0) {
+                return;
+            }
+            byKeyword.remove(heap.poll().keyword());
+        }
+        Candidate candidate = new Candidate(keyword, count);
+        byKeyword.put(keyword, candidate);
+        heap.add(candidate);
+    }
+
+    Set<String> keywords() {
+        return new HashSet<>(byKeyword.keySet());
+    }
+
+    // 많은 순 (같으면 키워드 순)
+    List<Candidate> sorted() {
+        List<Candidate> result = new ArrayList<>(heap);
+        result.sort(ORDER.reversed());
+        return result;
+    }
+
+    record Candidate(String keyword, long count) {
+    }
+}
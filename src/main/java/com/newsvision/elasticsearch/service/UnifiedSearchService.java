@@ -0,0 +1,139 @@
+package com.newsvision.elasticsearch.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.MsearchResponse;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchItem;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
+import co.elastic.clients.elasticsearch.core.msearch.MultisearchBody;
+import co.elastic.clients.json.JsonData;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.newsvision.elasticsearch.config.ElasticsearchConfig;
+import com.newsvision.elasticsearch.document.BoardDocument;
+import com.newsvision.elasticsearch.document.NewsDocument;
+import com.newsvision.elasticsearch.dto.SearchFacetResponse;
+import com.newsvision.elasticsearch.dto.SearchSort;
+import com.newsvision.elasticsearch.dto.UnifiedSearchResponse;
+import com.newsvision.global.exception.CustomException;
+import com.newsvision.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 검색 화면용 통합 검색. 검색어 분석은 한 번만 하고, 뉴스/게시글 첫 페이지와 카테고리 집계를 _msearch 한 번으로 조회한다.
+ * 결과는 뉴스/게시글 인덱스 세대 번호를 모두 붙인 키로 SearchResultCache 에 캐시한다.
+ * 다음 페이지는 각 결과의 nextCursor 로 /api/search/news, /api/search/board 에서 이어서 조회한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UnifiedSearchService {
+    private static final String CATEGORY_AGG = "categories";
+    private static final int FACET_SIZE = 10;
+    private static final TypeReference<UnifiedSearchResponse> UNIFIED_TYPE = new TypeReference<UnifiedSearchResponse>() {};
+
+    @Qualifier(ElasticsearchConfig.SEARCH_CLIENT)
+    private final ElasticsearchClient elasticsearchClient;
+    private final NewsSearchService newsSearchService;
+    private final BoardSearchService boardSearchService;
+    private final SearchResultCache searchResultCache;
+    private final SearchCircuitBreaker searchCircuitBreaker;
+    private final SearchFallbackService searchFallbackService;
+
+    public UnifiedSearchResponse search(String keyword, int size, SearchSort sort, boolean facets) {
+        SearchQuery query = SearchQuery.of(keyword);
+        int newsSize = NewsSearchService.pageSize(size);
+        int boardSize = BoardSearchService.pageSize(size);
+
+        // 두 인덱스 세대 번호를 모두 키에 넣어 어느 한쪽이 바뀌어도 새로 조회
+        String cacheKey = query.cacheKey("all", sort, newsSize, null) + "|" + boardSize + "|" + facets;
+        try {
+            return searchResultCache.getUnified(cacheKey, UNIFIED_TYPE,
+                    () -> search(query, newsSize, boardSize, sort, facets));
+        } catch (CustomException e) {
+            if (e.getErrorCode() != ErrorCode.SEARCH_UNAVAILABLE) {
+                throw e;
+            }
+            // ES 장애 중에는 캐시하지 않고 MySQL 로 각각 첫 페이지만 조회 (카테고리 집계는 빈 목록)
+            return UnifiedSearchResponse.builder()
+                    .news(searchFallbackService.searchNews(query, null, newsSize, sort))
+                    .board(searchFallbackService.searchBoard(query, null, boardSize, sort))
+                    .newsCategories(facets ? List.of() : null)
+                    .boardCategories(facets ? List.of() : null)
+                    .build();
+        }
+    }
+
+    private UnifiedSearchResponse search(SearchQuery query, int newsSize, int boardSize,
+                                         SearchSort sort, boolean facets) {
+        // 항목별 실패도 ES 장애로 보고 서킷 브레이커 안에서 확인한다
+        List<MultiSearchItem<JsonData>> results = searchCircuitBreaker.execute(() -> {
+            MsearchResponse<JsonData> response = msearch(query, newsSize, boardSize, sort, facets);
+            return List.of(result(response.responses().get(0), NewsSearchService.INDEX),
+                    result(response.responses().get(1), BoardSearchService.INDEX));
+        });
+
+        MultiSearchItem<JsonData> news = results.get(0);
+        MultiSearchItem<JsonData> boards = results.get(1);
+
+        return UnifiedSearchResponse.builder()
+                .news(SearchAfterCursor.toPage(news.hits(), newsSize,
+                        source -> newsSearchService.toSummary(source.to(NewsDocument.class))))
+                .board(SearchAfterCursor.toPage(boards.hits(), boardSize,
+                        source -> boardSearchService.toResponse(source.to(BoardDocument.class))))
+                .newsCategories(facets ? categoryFacets(news) : null)
+                .boardCategories(facets ? categoryFacets(boards) : null)
+                .build();
+    }
+
+    private MsearchResponse<JsonData> msearch(SearchQuery query, int newsSize, int boardSize,
+                                              SearchSort sort, boolean facets) throws IOException {
+        return elasticsearchClient.msearch(m -> m
+                        .searches(s -> s
+                                .header(h -> h.index(NewsSearchService.INDEX))
+                                .body(b -> body(b, newsSearchService.buildQuery(query), newsSize,
+                                        NewsSearchService.SUMMARY_FIELDS, sort, facets)))
+                        .searches(s -> s
+                                .header(h -> h.index(BoardSearchService.INDEX))
+                                .body(b -> body(b, boardSearchService.buildQuery(query), boardSize,
+                                        BoardSearchService.SUMMARY_FIELDS, sort, facets))),
+                JsonData.class);
+    }
+
+    private MultisearchBody.Builder body(MultisearchBody.Builder b, Query query, int pageSize,
+                                         List<String> fields, SearchSort sort, boolean facets) {
+        b.query(query)
+                .size(pageSize + 1)
+                .trackTotalHits(t -> t.enabled(true))
+                .source(src -> src.filter(f -> f.includes(fields)))
+                .sort(SearchAfterCursor.sortOptions(sort));
+        if (facets) {
+            b.aggregations(CATEGORY_AGG, a -> a.terms(t -> t.field("categoryName").size(FACET_SIZE)));
+        }
+        return b;
+    }
+
+    // 한쪽 인덱스만 실패해도 전체 요청을 실패로 처리 (부분 결과를 정상 결과처럼 보여주지 않도록)
+    private MultiSearchItem<JsonData> result(MultiSearchResponseItem<JsonData> item, String index) throws IOException {
+        if (item.isFailure()) {
+            throw new IOException(index + " 검색 실패: " + item.failure().error().reason());
+        }
+        return item.result();
+    }
+
+    private List<SearchFacetResponse> categoryFacets(MultiSearchItem<JsonData> item) {
+        Aggregate aggregate = item.aggregations().get(CATEGORY_AGG);
+        if (aggregate == null || !aggregate.isSterms()) {
+            return List.of();
+        }
+        return aggregate.sterms().buckets().array().stream()
+                .map(bucket -> new SearchFacetResponse(bucket.key().stringValue(), bucket.docCount()))
+                .toList();
+    }
+}
@@ -1,48 +1,149 @@
 package com.newsvision.global.Utils;
 
 public class JasoUtils {
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    // 자모 분해 출력값 (기존 색인된 titleJaso 와 같은 값을 유지하기 위해 코드 값 그대로 사용)
+    private static final char[] JASO_CHO = table(0x3131, 19);
+    private static final char[] JASO_JUNG = table(0x314F, JUNG_COUNT);
+    private static final char[] JASO_JONG = table(0x3131, JONG_COUNT);
+
+    private static final char[] CHO = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ',
+            'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ',
+            'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 자동완성 키용 중성/종성. 겹모음/겹받침은 입력 순서대로 풀어 쓴다 (입력 중인 "과"/"값" 도 접두어가 되도록)
+    private static final String[] JUNG_KEYS = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG_KEYS = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final char COMPAT_JAMO_FIRST = 0x3131;
+    private static final char COMPAT_JAMO_LAST = 0x3163;
+    // 호환 자모(ㄱ~ㅣ) 한 글자 → 자동완성 키 (겹자모만 풀림)
+    private static final String[] COMPAT_JAMO_KEYS = compatJamoKeys();
+
     public static String splitJaso(String text) {
-        StringBuilder sb = new StringBuilder();
-        for (char ch : text.toCharArray()) {
-            if (ch >= 0xAC00 && ch <= 0xD7A3) {
-                int base = ch - 0xAC00;
-                int chosung = base / (21 * 28);
-                int jungsung = (base % (21 * 28)) / 28;
-                int jongsung = base % 28;
-
-                sb.append((char) (0x3131 + chosung)); // 초성
-                sb.append((char) (0x314F + jungsung)); // 중성
-
-                if (jongsung != 0) {
-                    sb.append((char) (0x3131 + jongsung)); // 종성 (0이면 없음)
-                }
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        appendJaso(text, sb);
+        return sb.toString();
+    }
+
+    public static String extractChosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        appendChosung(text, sb);
+        return sb.toString();
+    }
+
+    // splitJaso 와 같은 결과를 out 뒤에 이어 쓴다 (중간 문자열/배열 생성 없음)
+    public static void appendJaso(CharSequence text, StringBuilder out) {
+        for (int i = 0, len = text.length(); i < len; i++) {
+            char ch = text.charAt(i);
+            if (ch < HANGUL_BASE || ch > HANGUL_LAST) {
+                out.append(ch);
+                continue;
+            }
+            int base = ch - HANGUL_BASE;
+            int jong = base % JONG_COUNT;
+            out.append(JASO_CHO[base / (JUNG_COUNT * JONG_COUNT)]);
+            out.append(JASO_JUNG[(base / JONG_COUNT) % JUNG_COUNT]);
+            if (jong != 0) {
+                out.append(JASO_JONG[jong]);
+            }
+        }
+    }
+
+    /**
+     * 자동완성 trie 키. 완성형 글자를 초성/중성/종성 호환 자모로 풀고, 겹모음/겹받침과 단독 겹자모도 나눈다.
+     * "경제" → ㄱㅕㅇㅈㅔ 이므로 입력 중인 "경ㅈ"(ㄱㅕㅇㅈ)도 접두어로 일치한다.
+     * appendJaso 는 기존 색인(titleJaso)과 같은 값을 유지해야 해서 따로 둔다.
+     */
+    public static void appendJamoKey(CharSequence text, StringBuilder out) {
+        for (int i = 0, len = text.length(); i < len; i++) {
+            char ch = text.charAt(i);
+            if (ch >= HANGUL_BASE && ch <= HANGUL_LAST) {
+                int base = ch - HANGUL_BASE;
+                out.append(CHO[base / (JUNG_COUNT * JONG_COUNT)]);
+                out.append(JUNG_KEYS[(base / JONG_COUNT) % JUNG_COUNT]);
+                out.append(JONG_KEYS[base % JONG_COUNT]);
+            } else if (ch >= COMPAT_JAMO_FIRST && ch <= COMPAT_JAMO_LAST) {
+                out.append(COMPAT_JAMO_KEYS[ch - COMPAT_JAMO_FIRST]);
             } else {
-                sb.append(ch);
+                out.append(ch);
             }
         }
-        return sb.toString();
     }
 
-    public static String extractChosung(String text) {
-        final char[] CHO = {
-                'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ',
-                'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ',
-                'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
-        };
-
-        StringBuilder sb = new StringBuilder();
-        for (String word : text.split("\\s+")) {
-            for (char ch : word.toCharArray()) {
-                if (ch >= 0xAC00 && ch <= 0xD7A3) {
-                    int code = ch - 0xAC00;
-                    int choIndex = code / (21 * 28);
-                    sb.append(CHO[choIndex]);
+    /**
+     * extractChosung 과 같은 결과를 out 뒤에 이어 쓴다.
+     * 공백 단위 단어 사이에 공백 하나를 두고, 앞뒤 공백은 붙이지 않는다 (split + trim 동작과 동일).
+     */
+    public static void appendChosung(CharSequence text, StringBuilder out) {
+        boolean inWord = false;
+        boolean started = false;
+        boolean emitted = false;
+        int pendingSpaces = 0;
+        for (int i = 0, len = text.length(); i < len; i++) {
+            char ch = text.charAt(i);
+            if (isWhitespace(ch)) {
+                inWord = false;
+                continue;
+            }
+            if (!inWord) {
+                if (started) {
+                    pendingSpaces++;
+                }
+                started = true;
+                inWord = true;
+            }
+            if (ch >= HANGUL_BASE && ch <= HANGUL_LAST) {
+                if (emitted) {
+                    for (; pendingSpaces > 0; pendingSpaces--) {
+                        out.append(' ');
+                    }
                 }
+                pendingSpaces = 0;
+                emitted = true;
+                out.append(CHO[(ch - HANGUL_BASE) / (JUNG_COUNT * JONG_COUNT)]);
             }
-            sb.append(" "); // 단어 단위로 공백
         }
-        return sb.toString().trim(); // 끝 공백 제거
     }
 
+    // 정규식 \s 와 같은 범위
+    private static boolean isWhitespace(char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == 0x0B || ch == '\f' || ch == '\r';
+    }
 
-}
\ No newline at end of file
+    // 호환 모음(ㅏ~ㅣ)은 중성 순서와 같고, 겹받침 글자는 따로 풀어 둔다
+    private static String[] compatJamoKeys() {
+        String[] keys = new String[COMPAT_JAMO_LAST - COMPAT_JAMO_FIRST + 1];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = String.valueOf((char) (COMPAT_JAMO_FIRST + i));
+        }
+        for (int jung = 0; jung < JUNG_COUNT; jung++) {
+            keys[0x314F + jung - COMPAT_JAMO_FIRST] = JUNG_KEYS[jung];
+        }
+        String compoundConsonants = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄ";
+        String[] parts = {"ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ"};
+        for (int i = 0; i < parts.length; i++) {
+            keys[compoundConsonants.charAt(i) - COMPAT_JAMO_FIRST] = parts[i];
+        }
+        return keys;
+    }
+
+    private static char[] table(int first, int size) {
+        char[] table = new char[size];
+        for (int i = 0; i < size; i++) {
+            table[i] = (char) (first + i);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,36 @@
+package com.newsvision.global.cache;
+
+import com.newsvision.global.exception.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/cache")
+@RequiredArgsConstructor
+@Tag(name = "캐시 컨트롤러", description = "관리자용 캐시 상태 API")
+public class CacheController {
+    private final TwoLevelCache twoLevelCache;
+
+    @Operation(summary = "캐시 적중률 조회", description = "캐시별 L1(Caffeine)/L2(Redis) 적중·미적중 횟수를 조회합니다. 관리자 권한 필요.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<List<CacheStatsResponse>>> getStats(
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        if (userDetails == null || !userDetails.getAuthorities().stream()
+                .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"))) {
+            return ResponseEntity.status(403).body(null);
+        }
+        return ResponseEntity.ok(ApiResponse.success(twoLevelCache.getStats()));
+    }
+}
@@ -0,0 +1,17 @@
+package com.newsvision.global.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CacheStatsResponse {
+    private String cacheName;
+    private long localSize;
+    private long localHitCount;
+    private long localMissCount;
+    private double localHitRate;
+    private long remoteHitCount;
+    private long remoteMissCount;
+    private long evictionCount;
+}
@@ -0,0 +1,27 @@
+package com.newsvision.global.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * 2단계 캐시 목록.
+ * L1(Caffeine)은 노드 로컬이라 Redis(L2)보다 짧게 두고, 변경 시에는 pub/sub 으로 모든 노드에서 비운다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CacheType {
+    CATEGORIES("categories", Duration.ofMinutes(10), Duration.ofHours(1), 10),
+    POLL_LIST("poll-list", Duration.ofSeconds(10), Duration.ofSeconds(30), 10),
+    CREATOR_NEWS("creator-news", Duration.ofSeconds(10), Duration.ofMinutes(1), 10),
+    SEARCH_NEWS("search-news", Duration.ofSeconds(5), Duration.ofSeconds(30), 10_000),
+    SEARCH_BOARD("search-board", Duration.ofSeconds(5), Duration.ofSeconds(30), 10_000),
+    // 통합 검색 (키에 뉴스/게시판 세대를 모두 포함)
+    SEARCH_ALL("search-all", Duration.ofSeconds(5), Duration.ofSeconds(30), 10_000);
+
+    private final String cacheName;
+    private final Duration localTtl;
+    private final Duration remoteTtl;
+    private final long maximumSize;
+}
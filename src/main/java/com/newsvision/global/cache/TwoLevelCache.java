@@ -0,0 +1,206 @@
+package com.newsvision.global.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Caffeine(L1) + Redis(L2) 2단계 캐시.
+ * 조회: L1 → L2 → DB 순으로 찾고 채운다. 같은 키의 동시 조회는 Caffeine 이 한 번만 로딩한다.
+ * L1 은 AsyncCache 로 두고 로딩은 처음 요청한 스레드가 잠금 밖에서 하므로, ES 처럼 느린 로더가 같은 bin 의 다른 키를 막지 않는다.
+ * 무효화: L2 를 지운 뒤 채널에 발행해 blue/green 모든 노드의 L1 을 비운다. 트랜잭션 안에서는 커밋 후에 실행한다.
+ */
+@Slf4j
+@Component
+public class TwoLevelCache implements MessageListener {
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+    private static final String KEY_PREFIX = "cache:";
+    private static final String ALL_KEYS = "*";
+    private static final String DELIMITER = "|";
+    private static final int SCAN_BATCH = 500;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<CacheType, AsyncCache<String, Object>> localCaches = new EnumMap<>(CacheType.class);
+    private final Map<CacheType, LongAdder> remoteHits = new EnumMap<>(CacheType.class);
+    private final Map<CacheType, LongAdder> remoteMisses = new EnumMap<>(CacheType.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public TwoLevelCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        for (CacheType type : CacheType.values()) {
+            localCaches.put(type, Caffeine.newBuilder()
+                    .expireAfterWrite(type.getLocalTtl())
+                    .maximumSize(type.getMaximumSize())
+                    .recordStats()
+                    .buildAsync());
+            remoteHits.put(type, new LongAdder());
+            remoteMisses.put(type, new LongAdder());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(CacheType type, String key, TypeReference<T> valueType, Supplier<T> loader) {
+        // compute 안에서는 빈 future 만 넣고, 실제 로딩은 future 를 넣은 스레드가 잠금 밖에서 한다
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> future = localCaches.get(type).get(key, (k, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(loadRemote(type, key, valueType, loader));
+            } catch (Throwable e) {
+                // 실패한 future 는 Caffeine 이 캐시에서 뺀다
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return (T) future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void evict(CacheType type, String key) {
+        runAfterCommit(() -> invalidate(type, key));
+    }
+
+    public void evictAll(CacheType type) {
+        runAfterCommit(() -> invalidate(type, ALL_KEYS));
+    }
+
+    public List<CacheStatsResponse> getStats() {
+        return localCaches.entrySet().stream()
+                .map(entry -> {
+                    CacheStats stats = entry.getValue().synchronous().stats();
+                    return CacheStatsResponse.builder()
+                            .cacheName(entry.getKey().getCacheName())
+                            .localSize(entry.getValue().synchronous().estimatedSize())
+                            .localHitCount(stats.hitCount())
+                            .localMissCount(stats.missCount())
+                            .localHitRate(stats.hitRate())
+                            .remoteHitCount(remoteHits.get(entry.getKey()).sum())
+                            .remoteMissCount(remoteMisses.get(entry.getKey()).sum())
+                            .evictionCount(stats.evictionCount())
+                            .build();
+                })
+                .toList();
+    }
+
+    // 다른 노드에서 발행한 무효화 메시지 수신 (nodeId|cacheName|key)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        for (CacheType type : CacheType.values()) {
+            if (type.getCacheName().equals(parts[1])) {
+                invalidateLocal(type, parts[2]);
+            }
+        }
+    }
+
+    private <T> T loadRemote(CacheType type, String key, TypeReference<T> valueType, Supplier<T> loader) {
+        String redisKey = redisKey(type, key);
+        try {
+            String cached = redisTemplate.opsForValue().get(redisKey);
+            if (cached != null) {
+                remoteHits.get(type).increment();
+                return objectMapper.readValue(cached, valueType);
+            }
+        } catch (Exception e) {
+            log.warn("L2 캐시 조회 실패: key={}, {}", redisKey, e.getMessage());
+        }
+        remoteMisses.get(type).increment();
+
+        T value = loader.get();
+        if (value != null) {
+            try {
+                redisTemplate.opsForValue().set(redisKey, objectMapper.writeValueAsString(value), type.getRemoteTtl());
+            } catch (Exception e) {
+                log.warn("L2 캐시 저장 실패: key={}, {}", redisKey, e.getMessage());
+            }
+        }
+        return value;
+    }
+
+    private void invalidate(CacheType type, String key) {
+        invalidateLocal(type, key);
+        try {
+            if (ALL_KEYS.equals(key)) {
+                // KEYS 는 Redis 를 막으므로 SCAN 으로 나눠 찾고 묶음 단위로 지운다
+                List<String> keys = new ArrayList<>(SCAN_BATCH);
+                try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions()
+                        .match(KEY_PREFIX + type.getCacheName() + ":*").count(SCAN_BATCH).build())) {
+                    while (cursor.hasNext()) {
+                        keys.add(cursor.next());
+                        if (keys.size() == SCAN_BATCH) {
+                            redisTemplate.delete(keys);
+                            keys.clear();
+                        }
+                    }
+                }
+                if (!keys.isEmpty()) {
+                    redisTemplate.delete(keys);
+                }
+            } else {
+                redisTemplate.delete(redisKey(type, key));
+            }
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.join(DELIMITER, nodeId, type.getCacheName(), key));
+        } catch (Exception e) {
+            log.warn("캐시 무효화 전파 실패: cache={}, key={}, {}", type.getCacheName(), key, e.getMessage());
+        }
+    }
+
+    private void invalidateLocal(CacheType type, String key) {
+        if (ALL_KEYS.equals(key)) {
+            localCaches.get(type).synchronous().invalidateAll();
+        } else {
+            localCaches.get(type).synchronous().invalidate(key);
+        }
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private String redisKey(CacheType type, String key) {
+        return KEY_PREFIX + type.getCacheName() + ":" + key;
+    }
+}
@@ -36,7 +36,9 @@ public enum ErrorCode {
     // 410
     VERIFICATION_EXPIRED(410, "인증 코드가 만료되었습니다."),
     // 500
-    INTERNAL_SERVER_ERROR(500, "서버 내부 오류입니다.");
+    INTERNAL_SERVER_ERROR(500, "서버 내부 오류입니다."),
+    // 503
+    SEARCH_UNAVAILABLE(503, "검색 서비스를 일시적으로 사용할 수 없습니다.");
 
     private final int status;
     private final String message;
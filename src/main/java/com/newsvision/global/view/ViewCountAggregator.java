@@ -0,0 +1,92 @@
+package com.newsvision.global.view;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상세 조회마다 UPDATE 를 날리지 않도록 조회수 증가분을 메모리에 모았다가
+ * 주기적으로 한 번의 UPDATE ... CASE 문으로 반영한다.
+ * flush 경계에서 동시에 들어온 극소수의 증가분은 유실될 수 있다 (조회수 특성상 허용).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountAggregator {
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<ViewTarget, ConcurrentHashMap<Long, LongAdder>> buffers = new EnumMap<>(ViewTarget.class);
+
+    {
+        for (ViewTarget target : ViewTarget.values()) {
+            buffers.put(target, new ConcurrentHashMap<>());
+        }
+    }
+
+    public void increment(ViewTarget target, Long id) {
+        buffers.get(target).computeIfAbsent(id, key -> new LongAdder()).increment();
+    }
+
+    @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:3000}")
+    public void flush() {
+        for (ViewTarget target : ViewTarget.values()) {
+            Map<Long, Long> deltas = drain(buffers.get(target));
+            if (deltas.isEmpty()) {
+                continue;
+            }
+            List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+            for (int from = 0; from < entries.size(); from += FLUSH_CHUNK_SIZE) {
+                List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, entries.size()));
+                try {
+                    update(target, chunk);
+                } catch (Exception e) {
+                    log.error("조회수 반영 실패 - {} {}건, 다음 주기에 재시도", target, chunk.size(), e);
+                    chunk.forEach(entry -> buffers.get(target)
+                            .computeIfAbsent(entry.getKey(), key -> new LongAdder())
+                            .add(entry.getValue()));
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Map<Long, Long> drain(ConcurrentHashMap<Long, LongAdder> buffer) {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long id : buffer.keySet()) {
+            LongAdder adder = buffer.remove(id);
+            long delta = adder != null ? adder.sum() : 0;
+            if (delta > 0) {
+                deltas.put(id, delta);
+            }
+        }
+        return deltas;
+    }
+
+    // UPDATE news SET view = view + CASE news_id WHEN ? THEN ? ... END WHERE news_id IN (?, ...)
+    private void update(ViewTarget target, List<Map.Entry<Long, Long>> chunk) {
+        StringBuilder sql = new StringBuilder("UPDATE ").append(target.getTable())
+                .append(" SET view = view + CASE ").append(target.getIdColumn());
+        List<Object> args = new ArrayList<>(chunk.size() * 3);
+        for (Map.Entry<Long, Long> entry : chunk) {
+            sql.append(" WHEN ? THEN ?");
+            args.add(entry.getKey());
+            args.add(entry.getValue());
+        }
+        sql.append(" ELSE 0 END WHERE ").append(target.getIdColumn()).append(" IN (")
+                .append(String.join(",", Collections.nCopies(chunk.size(), "?"))).append(")");
+        chunk.forEach(entry -> args.add(entry.getKey()));
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
@@ -0,0 +1,14 @@
+package com.newsvision.global.view;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ViewTarget {
+    NEWS("news", "news_id"),
+    BOARD("boards", "id");
+
+    private final String table;
+    private final String idColumn;
+}
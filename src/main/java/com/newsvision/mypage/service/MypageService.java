@@ -1,8 +1,8 @@
 package com.newsvision.mypage.service;
 
 import com.newsvision.board.entity.Board;
+import com.newsvision.board.service.BoardCountService;
 import com.newsvision.board.service.BoardService;
-import com.newsvision.board.service.CommentService;
 import com.newsvision.mypage.dto.response.*;
 import com.newsvision.news.entity.News;
 import com.newsvision.news.entity.Scrap;
@@ -24,6 +24,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -32,8 +33,8 @@ public class MypageService {
     private final UserService userService;
     private final FollowService followService;
     private final BadgeService badgeService;
-    private final CommentService commentService;
     private final BoardService boardService;
+    private final BoardCountService boardCountService;
     private final NewsService newsService;
     private final ScrapService scrapService;
     private final NoticeService noticeService;
@@ -75,10 +76,11 @@ public class MypageService {
 
     public Page<UserBoardListResponse> getMypageBoardList(Long id, Pageable pageable) {
         Page<Board> boardPage = boardService.getMypageBoardList(id, pageable);
+        Map<Long, BoardCountService.Counts> counts = boardCountService.countByBoardIds(
+                boardPage.getContent().stream().map(Board::getId).toList());
         return boardPage.map(board -> {
-                    int likeCount = boardService.countByBoardId(board.getId());
-                    int commentCount = commentService.countByBoardId(board.getId());
-                    return UserBoardListResponse.from(board, likeCount, commentCount);
+                    BoardCountService.Counts count = counts.getOrDefault(board.getId(), BoardCountService.Counts.EMPTY);
+                    return UserBoardListResponse.from(board, count.getLikeCount(), count.getCommentCount());
                 });
     }
 
@@ -1,18 +1,27 @@
 package com.newsvision.news.controller;
 
 import com.newsvision.global.exception.ApiResponse;
+import com.newsvision.global.exception.CustomException;
+import com.newsvision.global.exception.ErrorCode;
+import com.newsvision.global.security.CustomUserDetails;
 import com.newsvision.news.dto.response.GptNewsSummaryResponse;
 import com.newsvision.news.entity.News;
 import com.newsvision.news.repository.GptNewsRepository;
 import com.newsvision.news.repository.NewsRepository;
+import com.newsvision.news.service.GptSummaryService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -25,6 +34,7 @@ public class GptNewsController {
 
     private final NewsRepository newsRepository;
     private final GptNewsRepository gptNewsRepository;
+    private final GptSummaryService gptSummaryService;
 
     @Operation(
             summary = "최근 뉴스 GPT 요약 리스트",
@@ -43,4 +53,19 @@ public class GptNewsController {
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    @Operation(
+            summary = "뉴스 GPT 요약 스트리밍",
+            description = "SSE 로 요약을 생성되는 대로 받습니다. token 이벤트로 글자 조각을, done 이벤트로 전체 요약을 보내며 실패 시 error 이벤트를 보냅니다. "
+                    + "이미 요약이 있으면 done 만 보냅니다. 요약 대기 중(또는 실패한) 관리자 뉴스만 새로 생성하며, 그 외에는 404 입니다. 로그인 필요.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping(value = "/{newsId}/summary/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSummary(@PathVariable Long newsId,
+                                    @AuthenticationPrincipal CustomUserDetails userDetails) {
+        if (userDetails == null) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        }
+        return gptSummaryService.streamSummary(newsId);
+    }
 }
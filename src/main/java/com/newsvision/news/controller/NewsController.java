@@ -1,11 +1,13 @@
 package com.newsvision.news.controller;
 
+import com.newsvision.global.cursor.CursorResponse;
 import com.newsvision.global.exception.ApiResponse;
 import com.newsvision.global.security.CustomUserDetails;
 import com.newsvision.news.dto.request.NaverNewsSaveRequest;
 import com.newsvision.news.dto.response.*;
 import com.newsvision.news.entity.News;
 import com.newsvision.news.service.NaverNewsService;
+import com.newsvision.news.service.NewsMainSnapshotService;
 import com.newsvision.news.service.NewsLikeService;
 import com.newsvision.news.service.NewsService;
 import com.newsvision.user.entity.User;
@@ -18,6 +20,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -37,11 +42,22 @@ public class NewsController {
     private final UserService userService;
     private final NaverNewsService naverNewsService;
     private final NewsLikeService newsLikeService;
+    private final NewsMainSnapshotService newsMainSnapshotService;
 
-    @Operation(summary = "메인 뉴스 조회", description = "최근 3일 이내 어드민이 작성한 뉴스 중 좋아요 TOP 10 조회")
-    @GetMapping("/main")
-    public ResponseEntity<ApiResponse<NewsMainDataResponse>> getMainNews() {
-        return ResponseEntity.ok(ApiResponse.success(newsService.getNewsMain()));
+    @Operation(summary = "메인 뉴스 조회", description = "최근 3일 이내 어드민이 작성한 뉴스 중 좋아요 TOP 10 조회. 미리 만들어 둔 스냅샷을 ETag 와 함께 반환")
+    @GetMapping(value = "/main", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getMainNews(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        NewsMainSnapshotService.Snapshot snapshot = newsMainSnapshotService.getSnapshot();
+        if (snapshot.getEtag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.getEtag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getBody());
     }
 
     @Operation(summary = "뉴스 상세 조회", description = "뉴스 상세 정보 및 좋아요/스크랩 여부 확인")
@@ -114,6 +130,16 @@ public class NewsController {
         return ResponseEntity.ok(ApiResponse.success(newsService.getNewsListByCreatedAt(pageable)));
     }
 
+    @Operation(summary = "뉴스 목록 (커서)", description = "createdAt, id 커서 기반 무한스크롤 조회. 첫 페이지는 cursor 없이 요청")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<NewsSummaryResponse>>> getNewsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(newsService.getNewsListByCursor(cursor, categoryId, size)));
+    }
+
     @Operation(summary = "크리에이터 뉴스 목록", description = "카테고리 및 정렬 기준에 따른 크리에이터 뉴스 목록 조회")
     @GetMapping("/article")
     public ResponseEntity<ApiResponse<Page<NewsSummaryResponse>>> getFilteredArticles(
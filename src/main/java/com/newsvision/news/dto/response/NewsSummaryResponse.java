@@ -2,11 +2,16 @@ package com.newsvision.news.dto.response;
 
 import com.newsvision.global.Utils.TimeUtil;
 import com.newsvision.news.entity.News;
+import com.newsvision.news.repository.NewsSummaryView;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class NewsSummaryResponse {
     private Long id;
     private String title;
@@ -25,4 +30,15 @@ public class NewsSummaryResponse {
                 .createdAt(TimeUtil.formatRelativeTime(news.getCreatedAt()))
                 .build();
     }
+
+    public static NewsSummaryResponse from(NewsSummaryView view) {
+        return NewsSummaryResponse.builder()
+                .id(view.getId())
+                .title(view.getTitle())
+                .image(view.getImage())
+                .category(view.getCategoryName())
+                .nickname(view.getNickname())
+                .createdAt(TimeUtil.formatRelativeTime(view.getCreatedAt()))
+                .build();
+    }
 }
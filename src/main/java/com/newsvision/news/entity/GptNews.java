@@ -6,7 +6,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "gpt_news")
+@Table(name = "gpt_news", indexes = {
+        @Index(name = "idx_gpt_news_content_hash", columnList = "content_hash")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -29,6 +31,10 @@ public class GptNews {
     @Column(columnDefinition = "TEXT", nullable = false)
     private String summary;
 
+    // 정규화된 본문의 SHA-256 (같은 본문이면 다른 뉴스의 요약을 재사용, 이전 데이터는 null)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
@@ -0,0 +1,41 @@
+package com.newsvision.news.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * GPT 요약 작업 대기열. 뉴스 작성/수정과 같은 트랜잭션에서 news_id 기준으로 upsert 되어 뉴스당 한 건만 남는다.
+ * revision 은 요약 처리 중에 다시 수정된 경우를 구분하기 위한 값으로, 처리한 revision 과 같을 때만 작업을 지운다.
+ * next_retry_at 은 재시도 시각이자 처리 중인 작업의 임대 만료 시각으로, 서버가 죽어도 만료 후 다시 처리된다.
+ */
+@Entity
+@Table(name = "gpt_summary_jobs", indexes = {
+        @Index(name = "idx_gpt_summary_jobs_next_retry_at", columnList = "next_retry_at, id")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GptSummaryJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "news_id", nullable = false, unique = true)
+    private Long newsId;
+
+    @Column(nullable = false)
+    private int revision;
+
+    @Column(name = "retry_count", nullable = false)
+    private int retryCount;
+
+    @Column(name = "next_retry_at", nullable = false)
+    private LocalDateTime nextRetryAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -13,7 +13,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "news")
+@Table(name = "news", indexes = {
+        @Index(name = "idx_news_like_count", columnList = "like_count, created_at"),
+        @Index(name = "idx_news_created_at_id", columnList = "created_at, news_id"),
+        @Index(name = "idx_news_category_created_at_id", columnList = "category_id, created_at, news_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -40,9 +44,17 @@ public class News {
     @Column(name = "created_at", nullable = false,updatable = false)
     private LocalDateTime createdAt;
 
-    @Column(nullable = false)
+    // 조회수는 ViewCountAggregator 가 일괄 UPDATE 로 반영
+    @Column(nullable = false, updatable = false)
     private int view;
 
+    // 좋아요/스크랩 수는 NewsRepository 의 원자적 UPDATE 로만 변경 (엔티티 flush 로 덮어쓰지 않도록 updatable = false)
+    @Column(name = "like_count", nullable = false, updatable = false, columnDefinition = "int default 0")
+    private int likeCount;
+
+    @Column(name = "scrap_count", nullable = false, updatable = false, columnDefinition = "int default 0")
+    private int scrapCount;
+
     @Column
     private String image;
 
@@ -60,9 +72,6 @@ public class News {
         this.createdAt = this.createdAt == null ? LocalDateTime.now() : this.createdAt;
     }
 
-    public void increaseView() {
-        this.view++;
-    }
     public void updateImage(String image) { this.image = image; }
     public void updateContent(String content){ this.content = content;}
     public void updateCategory(Categories category) { this.category = category; }
@@ -0,0 +1,13 @@
+package com.newsvision.news.event;
+
+import com.newsvision.user.entity.User;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 뉴스 작성/수정으로 본문이 바뀜 (요약 대상 판단용으로 작성자 권한을 함께 전달)
+@Getter
+@RequiredArgsConstructor
+public class NewsContentChangedEvent {
+    private final Long newsId;
+    private final User.Role authorRole;
+}
@@ -0,0 +1,5 @@
+package com.newsvision.news.event;
+
+// 메인 화면(TOP 뉴스, 진행 중 투표)에 영향을 주는 변경 발생 알림
+public class NewsMainChangedEvent {
+}
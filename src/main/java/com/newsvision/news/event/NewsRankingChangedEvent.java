@@ -0,0 +1,46 @@
+package com.newsvision.news.event;
+
+import com.newsvision.news.entity.News;
+import com.newsvision.user.entity.User;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 랭킹 ZSET 반영용 뉴스 스냅샷 (커밋 이후 리스너에서 엔티티 지연 로딩 없이 쓰도록 값만 담는다)
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class NewsRankingChangedEvent {
+    public enum Type { CREATED, LIKE_CHANGED, CATEGORY_CHANGED, DELETED }
+
+    private final Type type;
+    private final Long newsId;
+    private final User.Role authorRole;
+    private final Long categoryId;
+    private final Long oldCategoryId;
+    private final LocalDateTime createdAt;
+    private final int likeCount;
+    private final int delta;
+
+    public static NewsRankingChangedEvent created(News news) {
+        return of(Type.CREATED, news, null, 0);
+    }
+
+    public static NewsRankingChangedEvent likeChanged(News news, int delta) {
+        return of(Type.LIKE_CHANGED, news, null, delta);
+    }
+
+    public static NewsRankingChangedEvent categoryChanged(News news, Long oldCategoryId) {
+        return of(Type.CATEGORY_CHANGED, news, oldCategoryId, 0);
+    }
+
+    public static NewsRankingChangedEvent deleted(Long newsId, Long categoryId) {
+        return new NewsRankingChangedEvent(Type.DELETED, newsId, null, categoryId, null, null, 0, 0);
+    }
+
+    private static NewsRankingChangedEvent of(Type type, News news, Long oldCategoryId, int delta) {
+        return new NewsRankingChangedEvent(type, news.getId(), news.getUser().getRole(), news.getCategory().getId(),
+                oldCategoryId, news.getCreatedAt(), news.getLikeCount(), delta);
+    }
+}
@@ -0,0 +1,16 @@
+package com.newsvision.news.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 뉴스 제목 변경 알림 (삭제 시 title 은 null)
+@Getter
+@RequiredArgsConstructor
+public class NewsTitleChangedEvent {
+    private final Long newsId;
+    private final String title;
+
+    public boolean isDeleted() {
+        return title == null;
+    }
+}
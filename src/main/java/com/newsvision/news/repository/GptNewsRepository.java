@@ -2,9 +2,35 @@ package com.newsvision.news.repository;
 
 import com.newsvision.news.entity.GptNews;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface GptNewsRepository extends JpaRepository<GptNews, Long> {
     Optional<GptNews> findByNewsId(Long newsId);
+
+    // 워커와 스트리밍이 같은 뉴스를 동시에 저장할 수 있어 news_id unique 키 기준 upsert
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO gpt_news (news_id, image, title, summary, content_hash, created_at)
+        VALUES (:newsId, :image, :title, :summary, :contentHash, :now)
+        ON DUPLICATE KEY UPDATE image = :image, title = :title, summary = :summary, content_hash = :contentHash
+    """, nativeQuery = true)
+    int upsert(@Param("newsId") Long newsId, @Param("image") String image, @Param("title") String title,
+               @Param("summary") String summary, @Param("contentHash") String contentHash,
+               @Param("now") LocalDateTime now);
+
+    // 같은 본문으로 이미 만든 요약 (중복 기사 재사용)
+    Optional<GptNews> findFirstByContentHash(String contentHash);
+
+    // 일괄 요약 전에 이미 요약된 뉴스 제외용
+    @Query("SELECT g.newsId FROM GptNews g WHERE g.newsId IN :newsIds")
+    List<Long> findNewsIdsByNewsIdIn(@Param("newsIds") Collection<Long> newsIds);
 }
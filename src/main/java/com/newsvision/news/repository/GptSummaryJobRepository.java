@@ -0,0 +1,66 @@
+package com.newsvision.news.repository;
+
+import com.newsvision.news.entity.GptSummaryJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface GptSummaryJobRepository extends JpaRepository<GptSummaryJob, Long> {
+
+    // 같은 뉴스 작업이 있으면 revision 만 올린다 (처리 중인 작업의 임대 시각은 유지)
+    @Modifying
+    @Query(value = """
+        INSERT INTO gpt_summary_jobs (news_id, revision, retry_count, next_retry_at, created_at)
+        VALUES (:newsId, 0, 0, :now, :now)
+        ON DUPLICATE KEY UPDATE revision = revision + 1, retry_count = 0, next_retry_at = GREATEST(next_retry_at, :now)
+    """, nativeQuery = true)
+    int upsert(@Param("newsId") Long newsId, @Param("now") LocalDateTime now);
+
+    Optional<GptSummaryJob> findByNewsId(Long newsId);
+
+    @Query("""
+        SELECT j FROM GptSummaryJob j
+        WHERE j.nextRetryAt <= :now
+        ORDER BY j.id ASC
+    """)
+    List<GptSummaryJob> findReady(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 여러 서버가 같은 작업을 가져가지 않도록 조건부 UPDATE 로 선점
+    @Modifying
+    @Query("""
+        UPDATE GptSummaryJob j SET j.nextRetryAt = :leaseUntil
+        WHERE j.id = :id AND j.revision = :revision AND j.nextRetryAt <= :now
+    """)
+    int claim(@Param("id") Long id, @Param("revision") int revision,
+              @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 처리 중인 작업의 임대 연장 (처리 중 수정돼 revision 이 바뀌었으면 연장하지 않는다)
+    @Modifying
+    @Query("""
+        UPDATE GptSummaryJob j SET j.nextRetryAt = :leaseUntil
+        WHERE j.id = :id AND j.revision = :revision
+    """)
+    int renewLease(@Param("id") Long id, @Param("revision") int revision, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("DELETE FROM GptSummaryJob j WHERE j.id = :id AND j.revision = :revision")
+    int deleteByIdAndRevision(@Param("id") Long id, @Param("revision") int revision);
+
+    @Modifying
+    @Query("""
+        UPDATE GptSummaryJob j SET j.retryCount = j.retryCount + 1, j.nextRetryAt = :nextRetryAt
+        WHERE j.id = :id AND j.revision = :revision
+    """)
+    int scheduleRetry(@Param("id") Long id, @Param("revision") int revision, @Param("nextRetryAt") LocalDateTime nextRetryAt);
+
+    // 처리 중 수정된 작업은 임대 만료를 기다리지 않고 바로 다시 처리
+    @Modifying
+    @Query("UPDATE GptSummaryJob j SET j.nextRetryAt = :now WHERE j.id = :id")
+    int release(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
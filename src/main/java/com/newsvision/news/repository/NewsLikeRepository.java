@@ -5,16 +5,25 @@ import com.newsvision.news.entity.News;
 import com.newsvision.news.entity.NewsLike;
 import com.newsvision.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface NewsLikeRepository extends JpaRepository<NewsLike, Long> {
     //user와 news로 좋아요 체크
     boolean existsByUserAndNews(User user, News news);
     //user와 news로 해당 좋아요 삭제
-    void deleteByUserAndNews(User user, News news);
+    long deleteByUserAndNews(User user, News news);
     //news 좋아요 개수 체크
     int countByNews(News news);
 
     void deleteAllByNews(News news);
 
     boolean existsByNewsIdAndUserId(Long newsId, Long userId);
+
+    //user가 좋아요 누른 news id 일괄 체크
+    @Query("SELECT nl.news.id FROM NewsLike nl WHERE nl.user.id = :userId AND nl.news.id IN :newsIds")
+    List<Long> findLikedNewsIds(@Param("userId") Long userId, @Param("newsIds") Collection<Long> newsIds);
 }
@@ -0,0 +1,10 @@
+package com.newsvision.news.repository;
+
+import java.time.LocalDateTime;
+
+public interface NewsRankingEntry {
+    Long getId();
+    int getLikeCount();
+    Long getCategoryId();
+    LocalDateTime getCreatedAt();
+}
@@ -1,14 +1,17 @@
 package com.newsvision.news.repository;
 
 import com.newsvision.news.entity.News;
+import com.newsvision.user.entity.User;
 import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,47 +23,205 @@ public interface NewsRepository extends JpaRepository<News, Long> {
     SELECT n FROM News n
     WHERE n.createdAt >= :fromDate
     AND n.user.role = 'ROLE_ADMIN'
-    ORDER BY (SELECT COUNT(nl) FROM NewsLike nl WHERE nl.news = n) DESC
+    ORDER BY n.likeCount DESC, n.createdAt DESC
 """)
     List<News> findTopNewsByAdminOnly(LocalDateTime fromDate, Pageable pageable);
 
-    // 크리에이터가 작성한 사설 등록일순으로 보여주기
+    // 뉴스id로 뉴스 상세보기
+    Optional<News> findById(Long id);
+
+    // 팔로우 타임라인 구성용 (id, 작성일만 조회)
     @Query("""
-    SELECT n FROM News n
-    WHERE n.user.role = 'ROLE_CREATOR'
-    ORDER BY n.createdAt DESC
+    SELECT n.id AS id, n.createdAt AS createdAt
+    FROM News n
+    WHERE n.user.id IN :userIds
+    ORDER BY n.createdAt DESC, n.id DESC
+""")
+    List<NewsTimelineEntry> findTimelineEntriesByUserIdIn(@Param("userIds") Collection<Long> userIds, Pageable pageable);
+
+    // 팔로우 탭 전체 개수 (타임라인 ZSET 은 보관 개수가 제한돼 있어 DB 로 센다)
+    @Query("""
+    SELECT COUNT(n) FROM News n
+    WHERE n.user.id IN (
+        SELECT f.following.id FROM Follow f WHERE f.follower.id = :userId
+    )
 """)
-    List<News> findAllByCreatorOrderByCreatedAtDesc();
+    long countByFollowingUsers(@Param("userId") Long userId);
 
-    // 공식뉴스 등록일 순으로 보여주기 (무한스크롤)
-    Page<News> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
-    // 뉴스id로 뉴스 상세보기
-    Optional<News> findById(Long id);
 
+    // 랭킹 ZSET 재구성용 (id, 좋아요 수, 카테고리만 조회)
+    @Query("""
+    SELECT n.id AS id, n.likeCount AS likeCount, n.category.id AS categoryId, n.createdAt AS createdAt
+    FROM News n
+    WHERE n.createdAt >= :fromDate
+    AND n.user.role IN :roles
+""")
+    List<NewsRankingEntry> findRankingEntries(@Param("fromDate") LocalDateTime fromDate, @Param("roles") Collection<User.Role> roles);
+
+    // 랭킹 id 목록 일괄 조회 (작성자, 카테고리 함께 로딩)
     @Query("""
     SELECT n FROM News n
-    WHERE n.user.role IN ('ROLE_ADMIN', 'ROLE_CREATOR')
-    ORDER BY (SELECT COUNT(nl) FROM NewsLike nl WHERE nl.news = n) DESC
+    JOIN FETCH n.user
+    JOIN FETCH n.category
+    WHERE n.id IN :ids
 """)
-    Page<News> findAllOrderByLikeCountDesc(Pageable pageable);
+    List<News> findAllWithUserAndCategoryByIdIn(@Param("ids") Collection<Long> ids);
 
+    // 검색 인덱스 전체 재구성용 keyset 청크 조회
     @Query("""
     SELECT n FROM News n
+    JOIN FETCH n.user
+    JOIN FETCH n.category
+    WHERE n.id > :lastId
+    ORDER BY n.id ASC
+""")
+    List<News> findChunkAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // ES 장애 시 fallback 검색, id 역순 keyset (ngram FULLTEXT 인덱스 필요, search_fulltext.sql 참고)
+    @Query(value = """
+    SELECT n.news_id FROM news n
+    WHERE MATCH(n.title, n.content) AGAINST (:keyword IN BOOLEAN MODE)
+    AND n.news_id < :id
+    ORDER BY n.news_id DESC
+    LIMIT :limit
+""", nativeQuery = true)
+    List<Long> findIdsByFulltext(@Param("keyword") String keyword, @Param("id") Long id, @Param("limit") int limit);
+
+    @Query(value = "SELECT COUNT(*) FROM news n WHERE MATCH(n.title, n.content) AGAINST (:keyword IN BOOLEAN MODE)", nativeQuery = true)
+    long countByFulltext(@Param("keyword") String keyword);
+
+    // 제목 자동완성 인덱스 구성용 (id, 제목, 좋아요 수만 조회)
+    @Query("SELECT n.id AS id, n.title AS title, n.likeCount AS likeCount FROM News n")
+    List<NewsTitleEntry> findTitleEntries();
+
+    @Query("SELECT n.likeCount FROM News n WHERE n.id = :newsId")
+    int findLikeCountById(@Param("newsId") Long newsId);
+
+    @Modifying
+    @Query("UPDATE News n SET n.likeCount = n.likeCount + 1 WHERE n.id = :newsId")
+    int increaseLikeCount(@Param("newsId") Long newsId);
+
+    @Modifying
+    @Query("UPDATE News n SET n.likeCount = n.likeCount - 1 WHERE n.id = :newsId AND n.likeCount > 0")
+    int decreaseLikeCount(@Param("newsId") Long newsId);
+
+    @Modifying
+    @Query("UPDATE News n SET n.scrapCount = n.scrapCount + 1 WHERE n.id = :newsId")
+    int increaseScrapCount(@Param("newsId") Long newsId);
+
+    @Modifying
+    @Query("UPDATE News n SET n.scrapCount = n.scrapCount - 1 WHERE n.id = :newsId AND n.scrapCount > 0")
+    int decreaseScrapCount(@Param("newsId") Long newsId);
+
+    // 좋아요/스크랩 카운터 보정 (실제 행 수와 어긋난 뉴스만 갱신)
+    @Modifying
+    @Query(value = """
+    UPDATE news n
+    SET n.like_count = (SELECT COUNT(*) FROM news_likes nl WHERE nl.news_id = n.news_id)
+    WHERE n.like_count <> (SELECT COUNT(*) FROM news_likes nl WHERE nl.news_id = n.news_id)
+""", nativeQuery = true)
+    int reconcileLikeCounts();
+
+    @Modifying
+    @Query(value = """
+    UPDATE news n
+    SET n.scrap_count = (SELECT COUNT(*) FROM scraps s WHERE s.news_id = n.news_id)
+    WHERE n.scrap_count <> (SELECT COUNT(*) FROM scraps s WHERE s.news_id = n.news_id)
+""", nativeQuery = true)
+    int reconcileScrapCounts();
+
+    // ===== 목록용 요약 projection (본문 제외, 작성자/카테고리 한 번에 조인) =====
+    // 크리에이터가 작성한 사설 등록일순
+    @Query("""
+    SELECT n.id AS id, n.title AS title, n.image AS image, c.name AS categoryName,
+           u.nickname AS nickname, n.createdAt AS createdAt
+    FROM News n JOIN n.category c JOIN n.user u
+    WHERE u.role = 'ROLE_CREATOR'
+    ORDER BY n.createdAt DESC
+""")
+    List<NewsSummaryView> findSummariesByCreator();
+
+    @Query(value = """
+    SELECT n.id AS id, n.title AS title, n.image AS image, c.name AS categoryName,
+           u.nickname AS nickname, n.createdAt AS createdAt
+    FROM News n JOIN n.category c JOIN n.user u
+    ORDER BY n.createdAt DESC
+""", countQuery = "SELECT COUNT(n) FROM News n")
+    Page<NewsSummaryView> findSummaries(Pageable pageable);
+
+    @Query(value = """
+    SELECT n.id AS id, n.title AS title, n.image AS image, c.name AS categoryName,
+           u.nickname AS nickname, n.createdAt AS createdAt
+    FROM News n JOIN n.category c JOIN n.user u
+    WHERE c.id = :categoryId
+    ORDER BY n.createdAt DESC
+""", countQuery = "SELECT COUNT(n) FROM News n WHERE n.category.id = :categoryId")
+    Page<NewsSummaryView> findSummariesByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query(value = """
+    SELECT n.id AS id, n.title AS title, n.image AS image, c.name AS categoryName,
+           u.nickname AS nickname, n.createdAt AS createdAt
+    FROM News n JOIN n.category c JOIN n.user u
+    WHERE u.role IN ('ROLE_ADMIN', 'ROLE_CREATOR')
+    ORDER BY n.likeCount DESC, n.createdAt DESC
+""", countQuery = "SELECT COUNT(n) FROM News n WHERE n.user.role IN ('ROLE_ADMIN', 'ROLE_CREATOR')")
+    Page<NewsSummaryView> findSummariesOrderByLikeCountDesc(Pageable pageable);
+
+    @Query(value = """
+    SELECT n.id AS id, n.title AS title, n.image AS image, c.name AS categoryName,
+           u.nickname AS nickname, n.createdAt AS createdAt
+    FROM News n JOIN n.category c JOIN n.user u
+    WHERE c.id = :categoryId AND u.role IN ('ROLE_ADMIN', 'ROLE_CREATOR')
+    ORDER BY n.likeCount DESC, n.createdAt DESC
+""", countQuery = "SELECT COUNT(n) FROM News n WHERE n.category.id = :categoryId AND n.user.role IN ('ROLE_ADMIN', 'ROLE_CREATOR')")
+    Page<NewsSummaryView> findSummariesByCategoryIdOrderByLikeCountDesc(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query(value = """
+    SELECT n.id AS id, n.title AS title, n.image AS image, c.name AS categoryName,
+           u.nickname AS nickname, n.createdAt AS createdAt
+    FROM News n JOIN n.category c JOIN n.user u
+    WHERE u.id IN (
+        SELECT f.following.id FROM Follow f WHERE f.follower.id = :userId
+    )
+    ORDER BY n.createdAt DESC, n.id DESC
+""", countQuery = """
+    SELECT COUNT(n) FROM News n
     WHERE n.user.id IN (
         SELECT f.following.id FROM Follow f WHERE f.follower.id = :userId
     )
 """)
-    Page<News> findByFollowingUsers(@Param("userId") Long userId, Pageable pageable);
+    Page<NewsSummaryView> findSummariesByFollowingUsers(@Param("userId") Long userId, Pageable pageable);
 
+    @Query("""
+    SELECT n.id AS id, n.title AS title, n.image AS image, c.name AS categoryName,
+           u.nickname AS nickname, n.createdAt AS createdAt
+    FROM News n JOIN n.category c JOIN n.user u
+    WHERE n.createdAt < :createdAt
+    OR (n.createdAt = :createdAt AND n.id < :id)
+    ORDER BY n.createdAt DESC, n.id DESC
+""")
+    Slice<NewsSummaryView> findSummarySliceByCursor(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 
+    @Query("""
+    SELECT n.id AS id, n.title AS title, n.image AS image, c.name AS categoryName,
+           u.nickname AS nickname, n.createdAt AS createdAt
+    FROM News n JOIN n.category c JOIN n.user u
+    WHERE c.id = :categoryId
+    AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+    ORDER BY n.createdAt DESC, n.id DESC
+""")
+    Slice<NewsSummaryView> findSummarySliceByCategoryAndCursor(@Param("categoryId") Long categoryId, @Param("createdAt") LocalDateTime createdAt,
+                                                               @Param("id") Long id, Pageable pageable);
 
     @Query("""
-    SELECT n FROM News n
-    WHERE n.category.id = :categoryId
-    ORDER BY n.createdAt DESC
+    SELECT n.id AS id, n.title AS title, n.image AS image, c.name AS categoryName,
+           u.nickname AS nickname, n.createdAt AS createdAt
+    FROM News n JOIN n.category c JOIN n.user u
+    WHERE n.id IN :ids
 """)
-    Page<News> findByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+    List<NewsSummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
     @Modifying
     @Query("UPDATE News n SET n.category.id = :defaultId WHERE n.category.id = :categoryId")
     void updateCategoryIdToDefault(@Param("categoryId") Long categoryId, @Param("defaultId") Long defaultId);
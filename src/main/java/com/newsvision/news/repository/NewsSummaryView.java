@@ -0,0 +1,13 @@
+package com.newsvision.news.repository;
+
+import java.time.LocalDateTime;
+
+// 뉴스 목록용 요약 컬럼 (본문 제외, 작성자/카테고리 조인)
+public interface NewsSummaryView {
+    Long getId();
+    String getTitle();
+    String getImage();
+    String getCategoryName();
+    String getNickname();
+    LocalDateTime getCreatedAt();
+}
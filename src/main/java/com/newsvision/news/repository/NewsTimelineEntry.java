@@ -0,0 +1,8 @@
+package com.newsvision.news.repository;
+
+import java.time.LocalDateTime;
+
+public interface NewsTimelineEntry {
+    Long getId();
+    LocalDateTime getCreatedAt();
+}
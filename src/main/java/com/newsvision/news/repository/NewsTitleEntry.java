@@ -0,0 +1,7 @@
+package com.newsvision.news.repository;
+
+public interface NewsTitleEntry {
+    Long getId();
+    String getTitle();
+    int getLikeCount();
+}
@@ -6,14 +6,29 @@ import com.newsvision.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ScrapRepository extends JpaRepository<Scrap, Long> {
-    void deleteByUserAndNews(User user, News news);
+    long deleteByUserAndNews(User user, News news);
     List<Scrap> findAllByUser(User user);
     void deleteByNews(News news);
     boolean existsByNewsIdAndUserId(Long newsId, Long userId);
     Page<Scrap> findByUserIdOrderByCreatedAtDesc(Long id, Pageable pageable);
+
+    // 스크랩 목록용 요약 projection
+    @Query("""
+    SELECT n.id AS id, n.title AS title, n.image AS image, c.name AS categoryName,
+           u.nickname AS nickname, n.createdAt AS createdAt
+    FROM Scrap s JOIN s.news n JOIN n.category c JOIN n.user u
+    WHERE s.user.id = :userId
+""")
+    List<NewsSummaryView> findNewsSummariesByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT s.news.id FROM Scrap s WHERE s.user.id = :userId AND s.news.id IN :newsIds")
+    List<Long> findScrapedNewsIds(@Param("userId") Long userId, @Param("newsIds") Collection<Long> newsIds);
 }
 
@@ -1,31 +1,50 @@
 package com.newsvision.news.service;
 
 import com.newsvision.news.entity.News;
+import com.newsvision.news.repository.GptNewsRepository;
 import com.newsvision.news.repository.NewsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+/**
+ * 요약은 뉴스 작성/수정 시 대기열(GptSummaryJobService)로 바로 처리되고,
+ * 여기서는 이전 데이터나 실패로 빠진 상위 뉴스 요약만 주기적으로 대기열에 다시 넣는다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class GptNewsScheduler {
     private final NewsRepository newsRepository;
-    private final GptSummaryService gptSummaryService;
+    private final GptNewsRepository gptNewsRepository;
+    private final GptSummaryJobService gptSummaryJobService;
 
-    @Scheduled(cron = "0 0 12 * * *")
-    public void summarizeTop10News() {
-        LocalDateTime threeDaysAgo = LocalDateTime.now().minusDays(3);
-        List<News> top10News = newsRepository.findTopNewsByAdminOnly(threeDaysAgo, PageRequest.of(0, 10));
+    // 메인 노출은 상위 10개지만 미리 더 많이 요약해 둘 수 있다
+    @Value("${openai.summary.top-n:10}")
+    private int topN;
 
-        for (News news : top10News) {
-            gptSummaryService.createSummary(news.getId(), news.getImage(), news.getTitle(), news.getContent());
+    @Scheduled(cron = "${openai.summary.backfill-cron:0 0 * * * *}")
+    public void enqueueMissingSummaries() {
+        LocalDateTime threeDaysAgo = LocalDateTime.now().minusDays(3);
+        List<Long> topNewsIds = newsRepository.findTopNewsByAdminOnly(threeDaysAgo, PageRequest.of(0, topN)).stream()
+                .map(News::getId)
+                .toList();
+        if (topNewsIds.isEmpty()) {
+            return;
+        }
+        Set<Long> summarized = new HashSet<>(gptNewsRepository.findNewsIdsByNewsIdIn(topNewsIds));
+        List<Long> missing = topNewsIds.stream().filter(id -> !summarized.contains(id)).toList();
+        if (!missing.isEmpty()) {
+            gptSummaryJobService.enqueueAll(missing);
+            log.info("누락된 뉴스 요약 {}건 대기열 등록", missing.size());
         }
-        log.info("뉴스 요약 완료");
     }
 }
@@ -0,0 +1,61 @@
+package com.newsvision.news.service;
+
+import com.newsvision.news.entity.News;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * GPT 요약을 병렬로 실행한다. 작업 하나는 뉴스 묶음이고 동시 실행 수는 parallelism 으로 제한하며 (요청/토큰 한도는 OpenAiClient 가 조절),
+ * 실행 중 + 대기 중 작업은 parallelism 의 2배까지만 받도록 availableSlots 로 알려 준다.
+ * 각 묶음의 요약은 끝나는 대로 바로 저장된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GptSummaryExecutor {
+    private final GptSummaryService gptSummaryService;
+
+    @Value("${openai.summary.parallelism:8}")
+    private int parallelism;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread thread = new Thread(r, "gpt-summary-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public int availableSlots() {
+        return Math.max(parallelism * 2 - inFlight.get(), 0);
+    }
+
+    // 결과는 요약하지 못한 뉴스 id
+    public CompletableFuture<Set<Long>> submit(List<News> newsList) {
+        inFlight.incrementAndGet();
+        return CompletableFuture
+                .supplyAsync(() -> gptSummaryService.refreshSummaries(newsList), executor)
+                .whenComplete((result, e) -> inFlight.decrementAndGet());
+    }
+}
@@ -0,0 +1,27 @@
+package com.newsvision.news.service;
+
+import com.newsvision.news.event.NewsContentChangedEvent;
+import com.newsvision.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 뉴스 본문 변경 이벤트를 GPT 요약 작업으로 기록한다.
+ * BEFORE_COMMIT 에서 호출되어 GptSummaryJobService 가 발행한 쪽 트랜잭션에 참여한다.
+ * @TransactionalEventListener 는 REQUIRES_NEW/NOT_SUPPORTED 가 아닌 @Transactional 과 함께 쓸 수 없어 별도 빈으로 둔다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GptSummaryJobEventListener {
+    private final GptSummaryJobService gptSummaryJobService;
+
+    // 메인 요약은 관리자 뉴스만 대상
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onNewsContentChanged(NewsContentChangedEvent event) {
+        if (event.getAuthorRole() == User.Role.ROLE_ADMIN) {
+            gptSummaryJobService.enqueue(event.getNewsId());
+        }
+    }
+}
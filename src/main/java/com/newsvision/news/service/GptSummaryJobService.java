@@ -0,0 +1,94 @@
+package com.newsvision.news.service;
+
+import com.newsvision.news.entity.GptSummaryJob;
+import com.newsvision.news.repository.GptSummaryJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * GPT 요약 작업 대기열 (gpt_summary_jobs).
+ * 관리자 뉴스 작성/수정 시 GptSummaryJobEventListener 가 커밋 직전에 같은 트랜잭션으로 기록하므로, 뉴스가 커밋되면 작업도 반드시 남는다.
+ * 처리는 GptSummaryWorker 가 선점(claim) → 요약 → 완료/재시도 순으로 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class GptSummaryJobService {
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+
+    private final GptSummaryJobRepository gptSummaryJobRepository;
+
+    @Value("${openai.summary.lease-seconds:300}")
+    private long leaseSeconds;
+    @Value("${openai.summary.max-retries:10}")
+    private int maxRetries;
+
+    public void enqueue(Long newsId) {
+        gptSummaryJobRepository.upsert(newsId, LocalDateTime.now());
+    }
+
+    public void enqueueAll(Collection<Long> newsIds) {
+        LocalDateTime now = LocalDateTime.now();
+        newsIds.forEach(newsId -> gptSummaryJobRepository.upsert(newsId, now));
+    }
+
+    // 요약 대기 중이거나 실패해 재시도를 기다리는 작업
+    @Transactional(readOnly = true)
+    public Optional<GptSummaryJob> findByNewsId(Long newsId) {
+        return gptSummaryJobRepository.findByNewsId(newsId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<GptSummaryJob> findReady(int limit) {
+        return gptSummaryJobRepository.findReady(LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    public boolean claim(GptSummaryJob job) {
+        LocalDateTime now = LocalDateTime.now();
+        return gptSummaryJobRepository.claim(job.getId(), job.getRevision(), now, now.plusSeconds(leaseSeconds)) == 1;
+    }
+
+    // 요약이 임대 시간보다 오래 걸려도 다른 서버가 같은 작업을 다시 가져가지 않도록 연장
+    public void renewLeases(Collection<GptSummaryJob> jobs) {
+        LocalDateTime leaseUntil = LocalDateTime.now().plusSeconds(leaseSeconds);
+        jobs.forEach(job -> gptSummaryJobRepository.renewLease(job.getId(), job.getRevision(), leaseUntil));
+    }
+
+    // 처리 중에 다시 수정됐으면 지우지 않고 바로 다시 처리
+    public void complete(GptSummaryJob job) {
+        if (gptSummaryJobRepository.deleteByIdAndRevision(job.getId(), job.getRevision()) == 0) {
+            gptSummaryJobRepository.release(job.getId(), LocalDateTime.now());
+        }
+    }
+
+    // 선점한 작업을 처리하지 못했을 때 임대 만료를 기다리지 않고 워커가 바로 다시 처리하게 한다
+    public void release(GptSummaryJob job) {
+        gptSummaryJobRepository.release(job.getId(), LocalDateTime.now());
+    }
+
+    public void fail(GptSummaryJob job) {
+        if (job.getRetryCount() >= maxRetries) {
+            log.error("뉴스 요약 {}회 실패로 포기: newsId={}", job.getRetryCount() + 1, job.getNewsId());
+            complete(job);
+            return;
+        }
+        LocalDateTime nextRetryAt = LocalDateTime.now().plusSeconds(backoffSeconds(job.getRetryCount()));
+        if (gptSummaryJobRepository.scheduleRetry(job.getId(), job.getRevision(), nextRetryAt) == 0) {
+            gptSummaryJobRepository.release(job.getId(), LocalDateTime.now());
+        }
+    }
+
+    private long backoffSeconds(int retryCount) {
+        return Math.min(10L << Math.min(retryCount, 10), MAX_BACKOFF_SECONDS);
+    }
+}
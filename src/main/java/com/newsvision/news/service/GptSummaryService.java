@@ -4,90 +4,426 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.newsvision.global.Utils.ContentHashUtil;
 import com.newsvision.global.exception.CustomException;
 import com.newsvision.global.exception.ErrorCode;
 import com.newsvision.news.entity.GptNews;
+import com.newsvision.news.entity.GptSummaryJob;
+import com.newsvision.news.entity.News;
 import com.newsvision.news.repository.GptNewsRepository;
+import com.newsvision.news.repository.NewsRepository;
+import com.newsvision.user.entity.User;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import okhttp3.*;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 
+/**
+ * 뉴스 요약 생성/저장. 요약은 정규화된 본문의 SHA-256 으로 식별한다.
+ * 본문이 바뀌지 않은 수정은 GPT 를 호출하지 않고, 같은 본문(중복 기사)은 로컬 캐시 → DB 순으로 찾아 기존 요약을 재사용한다.
+ * 여러 뉴스는 토큰 예산 안에서 한 요청으로 묶어 요약하고(JSON 으로 받아 뉴스별로 나눠 저장), 묶음이 실패하면 반씩 나눠 다시 시도한다.
+ * 요약이 없는 뉴스는 streamSummary 로 생성 중인 글자를 SSE 로 바로 내려줄 수 있다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GptSummaryService {
-    @Value("${openai.api-key}")
-    private String openAiApiKey;
+    private static final String SUMMARY_PROMPT = "아래 뉴스 본문을 150자 이내로 요약해줘. 핵심 정보만 뽑아주고, 불필요한 배경 설명은 생략해.";
+    private static final String BATCH_SUMMARY_PROMPT = "뉴스 목록이 [{\"id\": 뉴스ID, \"content\": 본문}] 형태의 JSON 배열로 주어진다. "
+            + "각 뉴스 본문을 150자 이내로 요약해서 {\"뉴스ID\": \"요약\"} 형태의 JSON 객체 하나로만 답해줘. "
+            + "핵심 정보만 뽑아주고, 불필요한 배경 설명은 생략해.";
+    // 배열 안에서 기사 하나를 감싸는 {"id": .., "content": ".."} 몫
+    private static final int ARTICLE_OVERHEAD_TOKENS = 16;
 
-    private static final String API_URL = "https://api.openai.com/v1/chat/completions";
     private final GptNewsRepository gptNewsRepository;
+    private final NewsRepository newsRepository;
+    private final GptSummaryJobService gptSummaryJobService;
+    private final OpenAiClient openAiClient;
+    private final ObjectMapper objectMapper;
 
-    public String createSummary(Long newsId, String image, String title, String content) {
-        return gptNewsRepository.findByNewsId(newsId)
+    @Value("${openai.summary.cache-size:10000}")
+    private long cacheSize;
+    @Value("${openai.stream.timeout-ms:60000}")
+    private long streamTimeoutMs;
+    // 동시에 생성 중인 스트림(본문) 수 제한
+    @Value("${openai.stream.max-concurrency:4}")
+    private int maxConcurrentStreams;
+    // 묶음 요청 하나의 입력 토큰 예산 (프롬프트 포함)
+    @Value("${openai.summary.batch.token-budget:6000}")
+    private int batchTokenBudget;
+    @Value("${openai.summary.batch.max-articles:8}")
+    private int batchMaxArticles;
+    @Value("${openai.summary.batch.output-tokens-per-article:300}")
+    private int outputTokensPerArticle;
+
+    // 본문 해시 → 요약. 같은 해시의 요약은 바뀌지 않으므로 크기 제한만 둔다
+    private Cache<String, String> summaryByHash;
+    // 본문 해시 → 생성 중인 스트림. 같은 본문을 동시에 요청하면 OpenAI 호출 하나를 같이 받는다
+    private final Map<String, SummaryStream> streams = new ConcurrentHashMap<>();
+    private Semaphore streamPermits;
+
+    @PostConstruct
+    public void init() {
+        summaryByHash = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+        streamPermits = new Semaphore(maxConcurrentStreams);
+    }
+
+    /**
+     * 현재 본문 기준으로 요약을 저장하고, 요약하지 못한 뉴스 id 를 반환한다.
+     * 본문이 그대로면 제목/이미지만 갱신하고, 같은 본문의 요약이 있으면 재사용하며, 나머지만 묶어서 GPT 로 요약한다.
+     */
+    public Set<Long> refreshSummaries(List<News> newsList) {
+        Map<String, List<News>> pendingByHash = new LinkedHashMap<>();
+        List<SummaryTask> tasks = new ArrayList<>();
+        for (News news : newsList) {
+            String normalized = ContentHashUtil.normalize(news.getContent());
+            String contentHash = ContentHashUtil.sha256(normalized);
+
+            GptNews current = gptNewsRepository.findByNewsId(news.getId()).orElse(null);
+            if (current != null && contentHash.equals(current.getContentHash())) {
+                // 본문이 같으면 요약은 그대로 두고, 제목/이미지가 바뀐 경우에만 쓴다
+                if (!Objects.equals(current.getTitle(), news.getTitle()) || !Objects.equals(current.getImage(), news.getImage())) {
+                    current.setImage(news.getImage());
+                    current.setTitle(news.getTitle());
+                    gptNewsRepository.save(current);
+                }
+                continue;
+            }
+            String reusable = reusableSummary(contentHash);
+            if (reusable != null) {
+                save(news, contentHash, reusable);
+                continue;
+            }
+            // 같은 본문은 한 번만 요약
+            pendingByHash.computeIfAbsent(contentHash, hash -> {
+                tasks.add(new SummaryTask(news.getId(), hash, normalized,
+                        TokenEstimator.estimate(normalized) + ARTICLE_OVERHEAD_TOKENS));
+                return new ArrayList<>();
+            }).add(news);
+        }
+
+        Map<String, String> summaries = new HashMap<>();
+        int budget = batchTokenBudget - TokenEstimator.estimate(BATCH_SUMMARY_PROMPT);
+        try {
+            for (List<SummaryTask> batch : SummaryBatchPacker.pack(tasks, SummaryTask::tokens, budget, batchMaxArticles)) {
+                summarizeBatch(batch, summaries);
+            }
+        } catch (IOException e) {
+            // OpenAI 가 재시도 후에도 응답하지 않으면 더 나눠 보내지 않고, 남은 뉴스는 작업 대기열에서 다시 처리
+            log.warn("OpenAI 호출 실패로 남은 요약 중단: {}건 중 {}건 완료, {}", tasks.size(), summaries.size(), e.getMessage());
+        }
+
+        Set<Long> failed = new HashSet<>();
+        pendingByHash.forEach((contentHash, sameContent) -> {
+            String summary = summaries.get(contentHash);
+            for (News news : sameContent) {
+                if (summary == null) {
+                    failed.add(news.getId());
+                } else {
+                    save(news, contentHash, summary);
+                }
+            }
+        });
+        return failed;
+    }
+
+    /**
+     * 응답이 JSON 이 아니거나 요청이 거부되면(컨텍스트 길이 초과 등) 반씩 나눠 다시, 일부만 빠졌으면 빠진 것만 다시 요청한다.
+     * 한 건짜리는 기존 단건 프롬프트로 요약. 429/5xx/네트워크 오류는 나눠도 소용없으므로 그대로 던진다.
+     */
+    private void summarizeBatch(List<SummaryTask> batch, Map<String, String> summaries) throws IOException {
+        if (batch.size() == 1) {
+            SummaryTask task = batch.get(0);
+            try {
+                summaries.put(task.contentHash(), useChatGptSummary(task.normalized()));
+            } catch (OpenAiClient.RequestRejectedException e) {
+                log.error("요약 실패: newsId={}", task.newsId(), e);
+            }
+            return;
+        }
+
+        List<SummaryTask> missing = new ArrayList<>();
+        try {
+            JsonNode result = useChatGptBatchSummary(batch);
+            for (SummaryTask task : batch) {
+                String summary = result.path(String.valueOf(task.newsId())).asText("").trim();
+                if (summary.isEmpty()) {
+                    missing.add(task);
+                } else {
+                    summaries.put(task.contentHash(), summary);
+                }
+            }
+        } catch (JsonProcessingException | OpenAiClient.RequestRejectedException e) {
+            log.warn("묶음 요약 실패, 나눠서 재시도: {}건, {}", batch.size(), e.getMessage());
+            missing = batch;
+        }
+
+        if (missing.isEmpty()) {
+            return;
+        }
+        if (missing.size() < batch.size()) {
+            summarizeBatch(missing, summaries);
+            return;
+        }
+        int half = missing.size() / 2;
+        summarizeBatch(missing.subList(0, half), summaries);
+        summarizeBatch(missing.subList(half, missing.size()), summaries);
+    }
+
+    /**
+     * 요약을 SSE 로 내려준다. 요청 스레드는 바로 반환하고, 글자는 OpenAI 응답을 읽는 스레드에서 "token" 이벤트로 보낸다.
+     * 이미 요약이 있으면 "done" 하나만 보낸다. 클라이언트가 끊어도 생성은 끝까지 진행해 저장한다.
+     * 새로 생성하는 건 요약 파이프라인 대상(관리자 뉴스)이면서 대기열에 작업이 남아 있는 경우뿐이고, 그 외에는 NOT_FOUND.
+ * 생성 전에 워커와 같은 방식으로 작업을 선점하고 저장 후 완료 처리한다. 이미 처리 중인 작업이면 "pending" 만 보낸다.
+     */
+    public SseEmitter streamSummary(Long newsId) {
+        News news = newsRepository.findAllWithUserAndCategoryByIdIn(List.of(newsId)).stream()
+                .filter(found -> found.getUser().getRole() == User.Role.ROLE_ADMIN)
+                .findFirst()
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
+        String normalized = ContentHashUtil.normalize(news.getContent());
+        String contentHash = ContentHashUtil.sha256(normalized);
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+
+        String summary = gptNewsRepository.findByNewsId(newsId)
+                .filter(gptNews -> contentHash.equals(gptNews.getContentHash()))
                 .map(GptNews::getSummary)
-                .orElseGet(() -> {
-                    try {
-                        String summary = useChatGptSummary(content);
-                        GptNews gptNews = GptNews.builder()
-                                .newsId(newsId)
-                                .image(image)
-                                .title(title)
-                                .summary(summary)
-                                .build();
-                        gptNewsRepository.save(gptNews);
-                        return summary;
-                    } catch (Exception e) {
-                        log.error("요약 실패", e);
-                        throw new CustomException(ErrorCode.NOT_FOUND);
-                    }
-                });
+                .orElse(null);
+        if (summary == null) {
+            summary = reusableSummary(contentHash);
+            if (summary != null) {
+                save(news, contentHash, summary);
+            }
+        }
+        if (summary != null) {
+            sendAndComplete(emitter, "done", summary);
+            return emitter;
+        }
+        GptSummaryJob job = gptSummaryJobService.findByNewsId(newsId)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
+
+        SummaryStream stream = streams.get(contentHash);
+        if (stream != null && stream.hasTarget(newsId)) {
+            stream.subscribe(emitter, news, null);
+            return emitter;
+        }
+        // 워커나 다른 서버가 이미 요약 중인 작업이면 같은 본문을 두 번 요약하지 않는다
+        if (!gptSummaryJobService.claim(job)) {
+            sendAndComplete(emitter, "pending", "요약을 생성하고 있습니다. 잠시 후 다시 조회해 주세요.");
+            return emitter;
+        }
+        if (stream != null) {
+            stream.subscribe(emitter, news, job);
+            return emitter;
+        }
+        if (!streamPermits.tryAcquire()) {
+            gptSummaryJobService.release(job);
+            sendAndComplete(emitter, "error", "요약 요청이 많아 잠시 후 다시 시도해 주세요.");
+            return emitter;
+        }
+        SummaryStream created = new SummaryStream(contentHash);
+        stream = streams.putIfAbsent(contentHash, created);
+        if (stream != null) {
+            streamPermits.release();
+            stream.subscribe(emitter, news, job);
+            return emitter;
+        }
+        // 구독을 먼저 등록해야 한도 초과처럼 바로 실패하는 경우에도 error 이벤트를 받는다
+        created.subscribe(emitter, news, job);
+        try {
+            openAiClient.streamChat(SUMMARY_PROMPT, normalized, created);
+        } catch (RuntimeException e) {
+            // 호출 전에 실패해도 스트림 자리와 동시 실행 한도, 작업 임대를 돌려준다
+            created.onError(e);
+        }
+        return emitter;
     }
 
-    private String useChatGptSummary(String content) throws IOException {
-        OkHttpClient client = new OkHttpClient();
-
-        ObjectMapper objectMapper = new ObjectMapper();
-        ObjectNode requestJson = objectMapper.createObjectNode();
-        requestJson.put("model", "gpt-3.5-turbo");
-        requestJson.put("temperature", 0.7);
-
-        ArrayNode messages = objectMapper.createArrayNode();
-        messages.add(objectMapper.createObjectNode()
-                .put("role", "system")
-                .put("content", "아래 뉴스 본문을 150자 이내로 요약해줘. 핵심 정보만 뽑아주고, 불필요한 배경 설명은 생략해."));
-        messages.add(objectMapper.createObjectNode()
-                .put("role", "user")
-                .put("content", content));
-
-        requestJson.set("messages", messages);
-
-        RequestBody body = RequestBody.create(
-                objectMapper.writeValueAsString(requestJson),
-                MediaType.parse("application/json")
-        );
-
-        Request request = new Request.Builder()
-                .url(API_URL)
-                .post(body)
-                .addHeader("Authorization", "Bearer " + openAiApiKey)
-                .addHeader("Content-Type", "application/json")
-                .build();
+    // 같은 본문의 요약이 이미 있으면 반환 (로컬 캐시 → DB)
+    private String reusableSummary(String contentHash) {
+        String cached = summaryByHash.getIfPresent(contentHash);
+        if (cached != null) {
+            return cached;
+        }
+        String summary = gptNewsRepository.findFirstByContentHash(contentHash)
+                .map(GptNews::getSummary)
+                .orElse(null);
+        if (summary != null) {
+            summaryByHash.put(contentHash, summary);
+        }
+        return summary;
+    }
+
+    private void save(News news, String contentHash, String summary) {
+        // 워커와 스트리밍이 같은 뉴스를 동시에 저장해도 unique 키 충돌이 나지 않도록 upsert
+        gptNewsRepository.upsert(news.getId(), news.getImage(), news.getTitle(), summary, contentHash, LocalDateTime.now());
+        summaryByHash.put(contentHash, summary);
+    }
+
+    private static boolean send(SseEmitter emitter, String name, String data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊겼거나 이미 완료된 emitter
+            return false;
+        }
+    }
+
+    private static void sendAndComplete(SseEmitter emitter, String name, String data) {
+        if (send(emitter, name, data)) {
+            emitter.complete();
+        }
+    }
+
+    // 태그를 걷어낸 본문만 보내 토큰을 아낀다
+    private String useChatGptSummary(String normalized) throws IOException {
+        return openAiClient.chat(SUMMARY_PROMPT, normalized);
+    }
+
+    private JsonNode useChatGptBatchSummary(List<SummaryTask> batch) throws IOException {
+        ArrayNode articles = objectMapper.createArrayNode();
+        for (SummaryTask task : batch) {
+            articles.addObject().put("id", task.newsId()).put("content", task.normalized());
+        }
+        String answer = openAiClient.chat(BATCH_SUMMARY_PROMPT, objectMapper.writeValueAsString(articles),
+                batch.size() * outputTokensPerArticle, true);
+        return objectMapper.readTree(answer);
+    }
+
+    // 요약할 본문 하나 (같은 본문의 뉴스가 여럿이면 대표 newsId 로 요청)
+    private record SummaryTask(Long newsId, String contentHash, String normalized, int tokens) {
+    }
+
+    // 한 본문에 대한 OpenAI 스트림과 그 구독자들. 늦게 들어온 구독자에게는 지금까지 생성된 글자를 먼저 보낸다
+    private final class SummaryStream implements OpenAiClient.StreamListener {
+        private final String contentHash;
+        private final List<SseEmitter> subscribers = new ArrayList<>();
+        private final List<News> targets = new ArrayList<>();
+        // 이 스트림이 선점한 작업. 저장하면 완료, 실패하면 임대를 풀어 워커가 다시 처리한다
+        private final List<GptSummaryJob> jobs = new ArrayList<>();
+        private final StringBuilder text = new StringBuilder();
+        private String finalEvent;
+        private String finalData;
+
+        private SummaryStream(String contentHash) {
+            this.contentHash = contentHash;
+        }
+
+        synchronized boolean hasTarget(Long newsId) {
+            return targets.stream().anyMatch(target -> target.getId().equals(newsId));
+        }
 
-        try (Response response = client.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
-                throw new CustomException(ErrorCode.NOT_FOUND);
+        // job 은 이번 요청에서 선점한 작업 (이미 대상인 뉴스면 null)
+        void subscribe(SseEmitter emitter, News news, GptSummaryJob job) {
+            String name;
+            String data;
+            synchronized (this) {
+                if (finalEvent == null) {
+                    if (!hasTarget(news.getId())) {
+                        targets.add(news);
+                    }
+                    if (job != null) {
+                        jobs.add(job);
+                    }
+                    if (!text.isEmpty() && !send(emitter, "token", text.toString())) {
+                        return;
+                    }
+                    subscribers.add(emitter);
+                    emitter.onCompletion(() -> unsubscribe(emitter));
+                    emitter.onTimeout(() -> unsubscribe(emitter));
+                    return;
+                }
+                name = finalEvent;
+                data = finalData;
+            }
+            // 그 사이 끝난 스트림: 결과를 그대로 쓰고 선점한 작업도 정리
+            settle(name, data, List.of(news), job == null ? List.of() : List.of(job));
+            sendAndComplete(emitter, name, data);
+        }
+
+        private synchronized void unsubscribe(SseEmitter emitter) {
+            subscribers.remove(emitter);
+        }
+
+        @Override
+        public synchronized void onDelta(String delta) {
+            text.append(delta);
+            Iterator<SseEmitter> it = subscribers.iterator();
+            while (it.hasNext()) {
+                if (!send(it.next(), "token", delta)) {
+                    it.remove();
+                }
+            }
+        }
+
+        @Override
+        public void onComplete(String summary) {
+            finish("done", summary);
+        }
+
+        @Override
+        public void onError(Exception e) {
+            log.warn("스트리밍 요약 실패: contentHash={}, {}", contentHash, e.getMessage());
+            finish("error", "요약 생성에 실패했습니다.");
+        }
+
+        private void finish(String name, String data) {
+            List<News> savedTargets;
+            List<GptSummaryJob> claimed;
+            List<SseEmitter> snapshot;
+            // 결과 확정과 대상 복사를 한 번에 해서, 이후 구독자는 subscribe 에서 직접 정리한다
+            synchronized (this) {
+                finalEvent = name;
+                finalData = data;
+                savedTargets = List.copyOf(targets);
+                claimed = List.copyOf(jobs);
+                // complete 의 onCompletion 콜백이 subscribers 를 건드리므로 복사본으로 보낸다
+                snapshot = List.copyOf(subscribers);
+                subscribers.clear();
+            }
+            if (streams.remove(contentHash, this)) {
+                streamPermits.release();
+            }
+            settle(name, data, savedTargets, claimed);
+            snapshot.forEach(emitter -> sendAndComplete(emitter, name, data));
+        }
+
+        private void settle(String name, String summary, List<News> newsList, List<GptSummaryJob> claimed) {
+            if ("done".equals(name)) {
+                try {
+                    newsList.forEach(news -> save(news, contentHash, summary));
+                    claimed.forEach(gptSummaryJobService::complete);
+                    return;
+                } catch (Exception e) {
+                    log.error("스트리밍 요약 저장 실패: contentHash={}", contentHash, e);
+                }
+            }
+            try {
+                claimed.forEach(gptSummaryJobService::release);
+            } catch (Exception e) {
+                log.warn("요약 작업 임대 해제 실패: contentHash={}, {}", contentHash, e.getMessage());
             }
-            String responseBody = response.body().string();
-            JsonNode root = objectMapper.readTree(responseBody);
-            return root.get("choices").get(0).get("message").get("content").asText().trim();
-        } catch (Exception e) {
-            log.error("error {}", e.getMessage());
-            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
 }
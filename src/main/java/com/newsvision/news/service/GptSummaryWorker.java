@@ -0,0 +1,94 @@
+package com.newsvision.news.service;
+
+import com.newsvision.news.entity.GptSummaryJob;
+import com.newsvision.news.entity.News;
+import com.newsvision.news.repository.NewsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * gpt_summary_jobs 를 주기적으로 읽어 GptSummaryExecutor 에 넘긴다.
+ * 가져온 작업은 batch.max-articles 개씩 묶어 넘기고 (한 묶음은 GptSummaryService 가 토큰 예산에 맞춰 요청으로 나눈다),
+ * 스케줄러 스레드는 작업을 넘기기만 하고 기다리지 않으며, 완료/실패 처리는 요약이 끝난 스레드에서 한다.
+ * 요약은 처리 시점의 뉴스 본문으로 만들고, 뉴스가 삭제됐으면 작업만 정리한다.
+ * 처리 중인 작업은 끝날 때까지 주기적으로 임대를 연장해 묶음이 오래 걸려도 중복 요약되지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GptSummaryWorker {
+    private final GptSummaryJobService gptSummaryJobService;
+    private final GptSummaryExecutor gptSummaryExecutor;
+    private final NewsRepository newsRepository;
+
+    @Value("${openai.summary.job-batch-size:50}")
+    private int batchSize;
+    @Value("${openai.summary.batch.max-articles:8}")
+    private int maxArticles;
+
+    private final Set<GptSummaryJob> running = ConcurrentHashMap.newKeySet();
+
+    @Scheduled(fixedDelayString = "${openai.summary.poll-interval-ms:1000}")
+    public void drain() {
+        int limit = Math.min(gptSummaryExecutor.availableSlots() * maxArticles, batchSize);
+        if (limit == 0) {
+            return;
+        }
+        List<GptSummaryJob> jobs = gptSummaryJobService.findReady(limit).stream()
+                .filter(gptSummaryJobService::claim)
+                .toList();
+        if (jobs.isEmpty()) {
+            return;
+        }
+        Map<Long, News> newsById = newsRepository.findAllById(jobs.stream().map(GptSummaryJob::getNewsId).toList()).stream()
+                .collect(Collectors.toMap(News::getId, Function.identity()));
+
+        List<GptSummaryJob> pending = new ArrayList<>();
+        for (GptSummaryJob job : jobs) {
+            if (newsById.containsKey(job.getNewsId())) {
+                pending.add(job);
+            } else {
+                gptSummaryJobService.complete(job);
+            }
+        }
+        for (int from = 0; from < pending.size(); from += maxArticles) {
+            List<GptSummaryJob> group = pending.subList(from, Math.min(from + maxArticles, pending.size()));
+            List<News> newsList = group.stream().map(job -> newsById.get(job.getNewsId())).toList();
+            running.addAll(group);
+            gptSummaryExecutor.submit(newsList).whenComplete((failedIds, e) -> {
+                for (GptSummaryJob job : group) {
+                    running.remove(job);
+                    if (e == null && !failedIds.contains(job.getNewsId())) {
+                        gptSummaryJobService.complete(job);
+                    } else {
+                        log.warn("뉴스 요약 실패, 재시도 예약: newsId={}, retry={}", job.getNewsId(), job.getRetryCount());
+                        gptSummaryJobService.fail(job);
+                    }
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${openai.summary.lease-renew-interval-ms:60000}")
+    public void renewLeases() {
+        if (running.isEmpty()) {
+            return;
+        }
+        try {
+            gptSummaryJobService.renewLeases(List.copyOf(running));
+        } catch (Exception e) {
+            log.warn("요약 작업 임대 연장 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.newsvision.news.service;
+
+import com.newsvision.news.repository.NewsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsCounterReconciler {
+    private final NewsRepository newsRepository;
+
+    // 좋아요/스크랩 카운터가 실제 행 수와 어긋난 경우 (회원 탈퇴, 수동 삭제 등) 새벽에 보정.
+    // 시작 시에도 한 번 실행해 컬럼 추가 직후(전부 0)에도 바로 맞는 값이 되게 하고, 랭킹 재구성보다 먼저 돈다
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Scheduled(cron = "0 30 4 * * *")
+    @Transactional
+    public void reconcileCounts() {
+        int likeFixed = newsRepository.reconcileLikeCounts();
+        int scrapFixed = newsRepository.reconcileScrapCounts();
+        log.info("뉴스 카운터 보정 완료 - like: {}, scrap: {}", likeFixed, scrapFixed);
+    }
+}
@@ -4,6 +4,7 @@ package com.newsvision.news.service;
 import com.newsvision.news.entity.News;
 import com.newsvision.news.entity.NewsLike;
 import com.newsvision.news.repository.NewsLikeRepository;
+import com.newsvision.news.repository.NewsRepository;
 import com.newsvision.user.entity.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,13 +17,14 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class NewsLikeService {
     private final NewsLikeRepository newsLikeRepository;
+    private final NewsRepository newsRepository;
 
     public boolean existsLike(Long newsId, Long userId) {
         return newsLikeRepository.existsByNewsIdAndUserId(newsId, userId);
     }
 
     public int findLikeCountByNews(News news) {
-        return newsLikeRepository.countByNews(news);
+        return newsRepository.findLikeCountById(news.getId());
     }
 
     @Transactional
@@ -32,14 +34,17 @@ public class NewsLikeService {
                .user(user)
                .build();
        newsLikeRepository.save(newsLike);
+       newsRepository.increaseLikeCount(news.getId());
     }
 
     @Transactional
     public void removeLike(News news, User user) {
-        newsLikeRepository.deleteByUserAndNews(user, news);
+        if (newsLikeRepository.deleteByUserAndNews(user, news) > 0) {
+            newsRepository.decreaseLikeCount(news.getId());
+        }
     }
 
     public int countLikeByNews(News news) {
-        return newsLikeRepository.countByNews(news);
+        return newsRepository.findLikeCountById(news.getId());
     }
 }
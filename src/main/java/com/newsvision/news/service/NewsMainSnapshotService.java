@@ -0,0 +1,96 @@
+package com.newsvision.news.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newsvision.global.exception.ApiResponse;
+import com.newsvision.news.event.NewsMainChangedEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 메인 화면 응답(JSON 바이트 + ETag)을 미리 만들어 두고 그대로 내려준다.
+ * 변경 이벤트는 dirty 표시만 하고 스케줄러가 모아서 재생성하며, 재생성 중에는 이전 스냅샷을 계속 제공한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsMainSnapshotService {
+    private final NewsService newsService;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private volatile Snapshot snapshot;
+
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        refresh();
+        return snapshot != null ? snapshot : build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMainChanged(NewsMainChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        refresh();
+    }
+
+    // 변경분 반영 (짧은 주기로 dirty 여부만 확인)
+    @Scheduled(fixedDelayString = "${news.main-snapshot.check-interval-ms:1000}")
+    public void refreshIfDirty() {
+        if (dirty.get()) {
+            refresh();
+        }
+    }
+
+    // 이벤트 없이 바뀌는 값(상대 시간, 3일 기준 만료 등) 반영
+    @Scheduled(fixedDelayString = "${news.main-snapshot.refresh-interval-ms:30000}")
+    public void refreshPeriodically() {
+        dirty.set(true);
+    }
+
+    private void refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dirty.set(false);
+            snapshot = build();
+        } catch (Exception e) {
+            dirty.set(true);
+            log.warn("메인 스냅샷 생성 실패, 이전 스냅샷 유지: {}", e.getMessage());
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private Snapshot build() {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(ApiResponse.success(newsService.getNewsMain()));
+            return new Snapshot(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        } catch (Exception e) {
+            throw new IllegalStateException("메인 스냅샷 직렬화 실패", e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Snapshot {
+        private final byte[] body;
+        private final String etag;
+    }
+}
@@ -0,0 +1,215 @@
+package com.newsvision.news.service;
+
+import com.newsvision.news.event.NewsRankingChangedEvent;
+import com.newsvision.news.repository.NewsRankingEntry;
+import com.newsvision.news.repository.NewsRepository;
+import com.newsvision.user.entity.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 뉴스 좋아요 랭킹을 Redis ZSET 으로 관리한다.
+ * 좋아요/취소 시 커밋 이후 ZINCRBY 로 갱신하고, 기간이 지난 뉴스는 주기적인 재구성으로 정리한다.
+ * 점수는 좋아요 수 + 작성 시각 소수부라서 좋아요가 같으면 최신 뉴스가 앞선다 (DB 정렬 likeCount, createdAt DESC 와 동일).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsRankingService {
+    private static final String MAIN_KEY = "news:ranking:main";              // 3일 이내 공식 뉴스
+    private static final String POPULAR_KEY = "news:ranking:popular";        // 공식 + 크리에이터 뉴스 전체
+    private static final String CATEGORY_KEY_PREFIX = "news:ranking:category:";
+    private static final int MAIN_WINDOW_DAYS = 3;
+    private static final List<User.Role> MAIN_ROLES = List.of(User.Role.ROLE_ADMIN);
+    private static final List<User.Role> POPULAR_ROLES = List.of(User.Role.ROLE_ADMIN, User.Role.ROLE_CREATOR);
+    private static final LocalDateTime ALL_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+    // epoch 초(10자리)를 1 미만 소수로 만든다. 좋아요 수가 10만 미만이면 double 정밀도 안에서 초 단위까지 구분된다
+    private static final double TIE_BREAK_SCALE = 1e10;
+
+    private final StringRedisTemplate redisTemplate;
+    private final NewsRepository newsRepository;
+
+    public List<Long> getMainTopIds(int size) {
+        return getTopIds(MAIN_KEY, 0, size);
+    }
+
+    public List<Long> getPopularIds(Long categoryId, long offset, int size) {
+        return getTopIds(popularKey(categoryId), offset, size);
+    }
+
+    public long countPopular(Long categoryId) {
+        try {
+            Long size = redisTemplate.opsForZSet().zCard(popularKey(categoryId));
+            return size != null ? size : 0;
+        } catch (Exception e) {
+            log.warn("랭킹 조회 실패: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    // 롤백된 좋아요가 점수에 남지 않도록 커밋 이후에만 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRankingChanged(NewsRankingChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> onNewsCreated(event);
+            case LIKE_CHANGED -> applyDelta(event, event.getDelta());
+            case CATEGORY_CHANGED -> onCategoryChanged(event);
+            case DELETED -> onNewsDeleted(event.getNewsId(), event.getCategoryId());
+        }
+    }
+
+    private void onNewsCreated(NewsRankingChangedEvent event) {
+        try {
+            String member = String.valueOf(event.getNewsId());
+            double score = score(event.getLikeCount(), event.getCreatedAt());
+            ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+            if (isMainTarget(event)) {
+                zSet.add(MAIN_KEY, member, score);
+            }
+            if (POPULAR_ROLES.contains(event.getAuthorRole())) {
+                zSet.add(POPULAR_KEY, member, score);
+                zSet.add(CATEGORY_KEY_PREFIX + event.getCategoryId(), member, score);
+            }
+        } catch (Exception e) {
+            log.warn("랭킹 등록 실패: newsId={}, {}", event.getNewsId(), e.getMessage());
+        }
+    }
+
+    private void onCategoryChanged(NewsRankingChangedEvent event) {
+        if (Objects.equals(event.getOldCategoryId(), event.getCategoryId())) {
+            return;
+        }
+        try {
+            String member = String.valueOf(event.getNewsId());
+            redisTemplate.opsForZSet().remove(CATEGORY_KEY_PREFIX + event.getOldCategoryId(), member);
+            if (POPULAR_ROLES.contains(event.getAuthorRole())) {
+                redisTemplate.opsForZSet().add(CATEGORY_KEY_PREFIX + event.getCategoryId(), member,
+                        score(event.getLikeCount(), event.getCreatedAt()));
+            }
+        } catch (Exception e) {
+            log.warn("랭킹 카테고리 갱신 실패: newsId={}, {}", event.getNewsId(), e.getMessage());
+        }
+    }
+
+    private void onNewsDeleted(Long newsId, Long categoryId) {
+        try {
+            String member = String.valueOf(newsId);
+            redisTemplate.opsForZSet().remove(MAIN_KEY, member);
+            redisTemplate.opsForZSet().remove(POPULAR_KEY, member);
+            redisTemplate.opsForZSet().remove(CATEGORY_KEY_PREFIX + categoryId, member);
+        } catch (Exception e) {
+            log.warn("랭킹 삭제 실패: newsId={}, {}", newsId, e.getMessage());
+        }
+    }
+
+    // 기간이 지난 뉴스 정리 및 DB 카운터 기준 보정
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 10 * 60 * 1000L, initialDelay = 10 * 60 * 1000L)
+    public void rebuild() {
+        try {
+            LocalDateTime fromDate = LocalDateTime.now().minusDays(MAIN_WINDOW_DAYS);
+            replace(MAIN_KEY, newsRepository.findRankingEntries(fromDate, MAIN_ROLES));
+
+            List<NewsRankingEntry> popular = newsRepository.findRankingEntries(ALL_TIME, POPULAR_ROLES);
+            replace(POPULAR_KEY, popular);
+
+            Map<Long, List<NewsRankingEntry>> byCategory = popular.stream()
+                    .collect(Collectors.groupingBy(NewsRankingEntry::getCategoryId));
+            // KEYS 는 Redis 를 막으므로 SCAN 으로 찾는다
+            Set<String> staleCategoryKeys = new HashSet<>();
+            try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions()
+                    .match(CATEGORY_KEY_PREFIX + "*").count(100).build())) {
+                cursor.forEachRemaining(staleCategoryKeys::add);
+            }
+            byCategory.keySet().forEach(categoryId -> staleCategoryKeys.remove(CATEGORY_KEY_PREFIX + categoryId));
+            if (!staleCategoryKeys.isEmpty()) {
+                redisTemplate.delete(staleCategoryKeys);
+            }
+            byCategory.forEach((categoryId, entries) -> replace(CATEGORY_KEY_PREFIX + categoryId, entries));
+            log.info("뉴스 랭킹 재구성 완료 - main: {}, popular: {}", countMain(), popular.size());
+        } catch (Exception e) {
+            log.warn("뉴스 랭킹 재구성 실패: {}", e.getMessage());
+        }
+    }
+
+    // 정수 증감이라 점수의 작성 시각 소수부는 그대로 유지된다
+    private void applyDelta(NewsRankingChangedEvent event, int delta) {
+        try {
+            String member = String.valueOf(event.getNewsId());
+            ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+
+            if (isMainTarget(event)) {
+                zSet.incrementScore(MAIN_KEY, member, delta);
+            }
+            if (POPULAR_ROLES.contains(event.getAuthorRole())) {
+                zSet.incrementScore(POPULAR_KEY, member, delta);
+                zSet.incrementScore(CATEGORY_KEY_PREFIX + event.getCategoryId(), member, delta);
+            }
+        } catch (Exception e) {
+            log.warn("랭킹 갱신 실패: newsId={}, {}", event.getNewsId(), e.getMessage());
+        }
+    }
+
+    private boolean isMainTarget(NewsRankingChangedEvent event) {
+        return MAIN_ROLES.contains(event.getAuthorRole())
+                && !event.getCreatedAt().isBefore(LocalDateTime.now().minusDays(MAIN_WINDOW_DAYS));
+    }
+
+    static double score(int likeCount, LocalDateTime createdAt) {
+        return likeCount + createdAt.toEpochSecond(ZoneOffset.UTC) / TIE_BREAK_SCALE;
+    }
+
+    private List<Long> getTopIds(String key, long offset, int size) {
+        try {
+            Set<String> members = redisTemplate.opsForZSet().reverseRange(key, offset, offset + size - 1);
+            if (members == null) {
+                return List.of();
+            }
+            return members.stream().map(Long::valueOf).toList();
+        } catch (Exception e) {
+            log.warn("랭킹 조회 실패: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private long countMain() {
+        Long size = redisTemplate.opsForZSet().zCard(MAIN_KEY);
+        return size != null ? size : 0;
+    }
+
+    // 임시 키에 채운 뒤 RENAME 으로 교체해 조회 중 빈 랭킹이 보이지 않도록 함
+    private void replace(String key, List<NewsRankingEntry> entries) {
+        if (entries.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+        Set<ZSetOperations.TypedTuple<String>> tuples = entries.stream()
+                .map(entry -> (ZSetOperations.TypedTuple<String>)
+                        new DefaultTypedTuple<>(String.valueOf(entry.getId()),
+                                score(entry.getLikeCount(), entry.getCreatedAt())))
+                .collect(Collectors.toSet());
+        String tempKey = key + ":rebuild";
+        redisTemplate.delete(tempKey);
+        redisTemplate.opsForZSet().add(tempKey, tuples);
+        redisTemplate.rename(tempKey, key);
+    }
+
+    private String popularKey(Long categoryId) {
+        return categoryId != null ? CATEGORY_KEY_PREFIX + categoryId : POPULAR_KEY;
+    }
+}
@@ -5,31 +5,45 @@ import com.newsvision.category.Categories;
 import com.newsvision.category.CategoryRepository;
 import com.newsvision.category.CategoryResponse;
 import com.newsvision.category.CategoryService;
-import com.newsvision.elasticsearch.service.NewsSearchService;
+import com.newsvision.elasticsearch.service.SearchIndexOutboxService;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.newsvision.global.aws.FileUploaderService;
+import com.newsvision.global.cache.CacheType;
+import com.newsvision.global.cache.TwoLevelCache;
+import com.newsvision.global.cursor.Cursor;
+import com.newsvision.global.cursor.CursorResponse;
 import com.newsvision.global.exception.CustomException;
 import com.newsvision.global.exception.ErrorCode;
+import com.newsvision.global.view.ViewCountAggregator;
+import com.newsvision.global.view.ViewTarget;
 import com.newsvision.news.dto.response.*;
 import com.newsvision.news.entity.NaverNews;
 import com.newsvision.news.entity.News;
+import com.newsvision.news.event.NewsContentChangedEvent;
+import com.newsvision.news.event.NewsMainChangedEvent;
+import com.newsvision.news.event.NewsRankingChangedEvent;
+import com.newsvision.news.event.NewsTitleChangedEvent;
 import com.newsvision.news.repository.NaverNewsRepository;
-import com.newsvision.news.repository.NewsLikeRepository;
 import com.newsvision.news.repository.NewsRepository;
+import com.newsvision.news.repository.NewsSummaryView;
 import com.newsvision.news.repository.ScrapRepository;
 import com.newsvision.notice.entity.Notice;
 import com.newsvision.notice.service.NoticeService;
 import com.newsvision.poll.dto.response.PollListResponse;
 import com.newsvision.poll.service.PollService;
 import com.newsvision.user.entity.User;
-import com.newsvision.user.service.FollowService;
 import com.newsvision.user.service.UserService;
+import com.newsvision.user.service.ViewerStateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.coobird.thumbnailator.Thumbnails;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -38,6 +52,11 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -62,29 +81,37 @@ public class NewsService {
     private String defaultGlobalImage;
 
     private final NewsRepository newsRepository;
-    private final NewsSearchService newsSearchService;
+    private final SearchIndexOutboxService searchIndexOutboxService;
     private final FileUploaderService fileUploaderService;
     private final NewsLikeService newsLikeService;
     private final ScrapService scrapService;
     private final CategoryService categoryService;
     private final UserService userService;
     private final PollService pollService;
-    private final FollowService followService;
+    private final ViewerStateService viewerStateService;
     private final NoticeService noticeService;
+    private final NewsRankingService newsRankingService;
+    private final NewsTimelineService newsTimelineService;
+    private final ViewCountAggregator viewCountAggregator;
+    private final TwoLevelCache twoLevelCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final CategoryRepository categoryRepository;
     private final ScrapRepository scrapRepository;
-    private final NewsLikeRepository newsLikeRepository;
     private final NaverNewsRepository naverNewsRepository;
 
+    private static final int MAX_CURSOR_SIZE = 50;
+
     public News findByNewsId(Long newsId) {
         return newsRepository.findById(newsId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
     }
 
     public NewsMainDataResponse getNewsMain() {
-        LocalDateTime threeDaysAgo = LocalDateTime.now().minusDays(3);
-        List<News> topNews = newsRepository.findTopNewsByAdminOnly(threeDaysAgo, PageRequest.of(0, 10));
+        List<Long> topIds = newsRankingService.getMainTopIds(10);
+        List<News> topNews = topIds.isEmpty()
+                ? newsRepository.findTopNewsByAdminOnly(LocalDateTime.now().minusDays(3), PageRequest.of(0, 10))
+                : findAllInOrder(topIds);
         List<PollListResponse> polls = pollService.getRecentList();
 
         return NewsMainDataResponse.builder()
@@ -93,15 +120,14 @@ public class NewsService {
                 .build();
     }
 
-    @Transactional
     public NewsResponse getNewsDetail(Long newsId, Long userId) {
         News news = findByNewsId(newsId);
-        news.increaseView();
+        viewCountAggregator.increment(ViewTarget.NEWS, newsId);
         int likeCount = newsLikeService.countLikeByNews(news);
-        boolean liked = userId != null && newsLikeService.existsLike(newsId, userId);
-        boolean scraped = userId != null && scrapService.existsScrap(newsId, userId);
-        boolean followed = userId != null && followService.existsFollow(userId, news.getUser().getId());
-        return NewsResponse.of(news, likeCount, liked, scraped, followed);
+        Long authorId = news.getUser().getId();
+        ViewerStateService.ViewerState viewerState = viewerStateService.resolveNews(userId, List.of(newsId), List.of(authorId));
+        return NewsResponse.of(news, likeCount, viewerState.isLiked(newsId), viewerState.isScraped(newsId),
+                viewerState.isFollowed(authorId));
     }
 
     @Transactional
@@ -111,6 +137,8 @@ public class NewsService {
             throw new CustomException(ErrorCode.INVALID_INPUT);
         }
         newsLikeService.addLike(news, userService.findByUserId(userId));
+        eventPublisher.publishEvent(NewsRankingChangedEvent.likeChanged(news, 1));
+        eventPublisher.publishEvent(new NewsMainChangedEvent());
 
         User sender = userService.findByUserId(userId);
         User receiver = userService.findByUserId(news.getUser().getId());
@@ -125,6 +153,8 @@ public class NewsService {
             throw new CustomException(ErrorCode.INVALID_INPUT);
         }
         newsLikeService.removeLike(news, userService.findByUserId(userId));
+        eventPublisher.publishEvent(NewsRankingChangedEvent.likeChanged(news, -1));
+        eventPublisher.publishEvent(new NewsMainChangedEvent());
     }
 
     @Transactional
@@ -151,41 +181,110 @@ public class NewsService {
     }
 
     public List<NewsSummaryResponse> getMyScrapList(User user) {
-        return scrapRepository.findAllByUser(user).stream()
-                .map(scrap -> NewsSummaryResponse.from(scrap.getNews()))
+        return scrapRepository.findNewsSummariesByUserId(user.getId()).stream()
+                .map(NewsSummaryResponse::from)
                 .toList();
     }
 
     public List<NewsSummaryResponse> getCreatorNewsList() {
-        return newsRepository.findAllByCreatorOrderByCreatedAtDesc()
-                .stream()
-                .map(NewsSummaryResponse::from)
-                .toList();
+        return twoLevelCache.get(CacheType.CREATOR_NEWS, "all", new TypeReference<List<NewsSummaryResponse>>() {},
+                () -> newsRepository.findSummariesByCreator()
+                        .stream()
+                        .map(NewsSummaryResponse::from)
+                        .toList());
     }
 
     public Page<NewsSummaryResponse> getNewsListByCreatedAt(Pageable pageable) {
-        return newsRepository.findAllByOrderByCreatedAtDesc(pageable)
+        return newsRepository.findSummaries(pageable)
                 .map(NewsSummaryResponse::from);
     }
 
+    public CursorResponse<NewsSummaryResponse> getNewsListByCursor(String cursor, Long categoryId, int size) {
+        Cursor position = Cursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_CURSOR_SIZE));
+        Slice<NewsSummaryView> slice = categoryId != null
+                ? newsRepository.findSummarySliceByCategoryAndCursor(categoryId, position.getCreatedAt(), position.getId(), limit)
+                : newsRepository.findSummarySliceByCursor(position.getCreatedAt(), position.getId(), limit);
+
+        List<NewsSummaryView> content = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            NewsSummaryView last = content.get(content.size() - 1);
+            nextCursor = new Cursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorResponse<>(content.stream().map(NewsSummaryResponse::from).toList(), nextCursor, slice.hasNext());
+    }
+
     public Page<NewsSummaryResponse> getFilteredArticles(String type, Long categoryId, User user, Pageable pageable) {
-        Page<News> result;
+        Page<NewsSummaryView> result;
         switch (type) {
             case "popular":
-                result = newsRepository.findAllOrderByLikeCountDesc(pageable); break;
+                result = getPopularNews(categoryId, pageable); break;
             case "follow":
                 if (user == null) throw new CustomException(ErrorCode.UNAUTHORIZED);
-                result = newsRepository.findByFollowingUsers(user.getId(), pageable);
+                result = getFollowingNews(user.getId(), pageable);
                 break;
             case "category":
-                result = newsRepository.findByCategoryId(categoryId, pageable); break;
+                result = newsRepository.findSummariesByCategoryId(categoryId, pageable); break;
             case "recent":
             default:
-                result = newsRepository.findAllByOrderByCreatedAtDesc(pageable); break;
+                result = newsRepository.findSummaries(pageable); break;
         }
         return result.map(NewsSummaryResponse::from);
     }
 
+    // categoryId 가 있으면 해당 카테고리 안에서의 인기순 (없으면 공식 + 크리에이터 뉴스 전체)
+    private Page<NewsSummaryView> getPopularNews(Long categoryId, Pageable pageable) {
+        long total = newsRankingService.countPopular(categoryId);
+        if (total == 0) {
+            return categoryId == null
+                    ? newsRepository.findSummariesOrderByLikeCountDesc(pageable)
+                    : newsRepository.findSummariesByCategoryIdOrderByLikeCountDesc(categoryId, pageable);
+        }
+        List<Long> ids = newsRankingService.getPopularIds(categoryId, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(findSummariesInOrder(ids), pageable, total);
+    }
+
+    private Page<NewsSummaryView> getFollowingNews(Long userId, Pageable pageable) {
+        Page<Long> ids = newsTimelineService.getTimelineIds(userId, pageable);
+        if (ids == null) {
+            return newsRepository.findSummariesByFollowingUsers(userId, pageable);
+        }
+        List<NewsSummaryView> summaries = findSummariesInOrder(ids.getContent());
+        if (summaries.size() < ids.getContent().size()) {
+            // 타임라인에 삭제된 뉴스가 남아 있으면 정리하고, 이번 페이지는 DB 로 채운다
+            Set<Long> found = summaries.stream().map(NewsSummaryView::getId).collect(Collectors.toSet());
+            newsTimelineService.removeStale(userId, ids.getContent().stream().filter(id -> !found.contains(id)).toList());
+            return newsRepository.findSummariesByFollowingUsers(userId, pageable);
+        }
+        return new PageImpl<>(summaries, pageable, ids.getTotalElements());
+    }
+
+    private List<NewsSummaryView> findSummariesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, NewsSummaryView> viewMap = newsRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(NewsSummaryView::getId, Function.identity()));
+        return ids.stream()
+                .map(viewMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 주어진 id 순서를 유지하며 한 번의 쿼리로 조회
+    private List<News> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, News> newsMap = newsRepository.findAllWithUserAndCategoryByIdIn(ids).stream()
+                .collect(Collectors.toMap(News::getId, Function.identity()));
+        return ids.stream()
+                .map(newsMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     @Transactional
     public Long createNews(Long userId, String title, String content, Long categoryId, Long naverNewsId, MultipartFile image) {
         User user = userService.findByUserId(userId);
@@ -215,12 +314,13 @@ public class NewsService {
                 .build();
 
         News saved = newsRepository.save(news);
-
-        try {
-            newsSearchService.saveNews(saved);
-        } catch (Exception e) {
-            log.error("Elasticsearch 저장 실패", e);
-        }
+        eventPublisher.publishEvent(NewsRankingChangedEvent.created(saved));
+        newsTimelineService.onNewsCreated(saved);
+        twoLevelCache.evictAll(CacheType.CREATOR_NEWS);
+        eventPublisher.publishEvent(new NewsMainChangedEvent());
+        eventPublisher.publishEvent(new NewsTitleChangedEvent(saved.getId(), saved.getTitle()));
+        eventPublisher.publishEvent(new NewsContentChangedEvent(saved.getId(), user.getRole()));
+        searchIndexOutboxService.enqueueNews(saved.getId());
         return saved.getId();
     }
 
@@ -236,6 +336,7 @@ public class NewsService {
         Categories category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
 
+        Long oldCategoryId = news.getCategory().getId();
         String oldImageUrl = news.getImage();
         String defaultImageForCategory = getDefaultImageForCategoryId(categoryId);
         String newImageUrl = oldImageUrl;
@@ -257,7 +358,12 @@ public class NewsService {
         news.updateContent(content);
         news.updateImage(newImageUrl);
         news.updateCategory(category);
-        newsSearchService.saveNews(news);
+        eventPublisher.publishEvent(NewsRankingChangedEvent.categoryChanged(news, oldCategoryId));
+        twoLevelCache.evictAll(CacheType.CREATOR_NEWS);
+        eventPublisher.publishEvent(new NewsMainChangedEvent());
+        eventPublisher.publishEvent(new NewsTitleChangedEvent(newsId, title));
+        eventPublisher.publishEvent(new NewsContentChangedEvent(newsId, news.getUser().getRole()));
+        searchIndexOutboxService.enqueueNews(newsId);
     }
 
     @Transactional
@@ -265,7 +371,12 @@ public class NewsService {
         scrapService.delete(news);
         fileUploaderService.deleteFile(news.getImage());
         newsRepository.delete(news);
-        newsSearchService.deleteNews(newsId);
+        eventPublisher.publishEvent(NewsRankingChangedEvent.deleted(newsId, news.getCategory().getId()));
+        newsTimelineService.onNewsDeleted(newsId, news.getUser().getId());
+        twoLevelCache.evictAll(CacheType.CREATOR_NEWS);
+        eventPublisher.publishEvent(new NewsMainChangedEvent());
+        eventPublisher.publishEvent(new NewsTitleChangedEvent(newsId, null));
+        searchIndexOutboxService.enqueueNews(newsId);
     }
 
     private byte[] resizeNewsImage(MultipartFile file) {
@@ -298,7 +409,7 @@ public class NewsService {
     }
 
     public int countByNews(News news) {
-        return newsLikeRepository.countByNews(news);
+        return news.getLikeCount();
     }
 
     public NewsDetailInfoResponse newsInfo(Long newsId) {
@@ -0,0 +1,243 @@
+package com.newsvision.news.service;
+
+import com.newsvision.news.entity.News;
+import com.newsvision.news.repository.NewsRepository;
+import com.newsvision.news.repository.NewsTimelineEntry;
+import com.newsvision.user.repository.FollowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 팔로우 탭 타임라인 (fan-out-on-write).
+ * 뉴스 작성 시 팔로워별 ZSET(score = 작성 시각)에 id 를 넣어 두고, 조회는 ZSET 범위 조회 한 번으로 처리한다.
+ * 팔로워가 fanout-limit 을 넘는 작성자는 쓰기 시 전파하지 않고 조회 시 DB 에서 합친다 (fan-out-on-read).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NewsTimelineService {
+    private static final String TIMELINE_KEY_PREFIX = "timeline:";
+    private static final String CELEBRITY_KEY = "timeline:celebrities";
+    private static final int MAX_TIMELINE_SIZE = 500;
+    private static final Duration TIMELINE_TTL = Duration.ofDays(7);
+
+    @Value("${timeline.fanout-limit:10000}")
+    private int fanoutLimit;
+
+    private final StringRedisTemplate redisTemplate;
+    private final NewsRepository newsRepository;
+    private final FollowRepository followRepository;
+
+    public void onNewsCreated(News news) {
+        Long authorId = news.getUser().getId();
+        try {
+            if (isCelebrity(authorId)) {
+                return;
+            }
+            List<Long> followerIds = followRepository.findFollowerIds(authorId);
+            if (followerIds.size() > fanoutLimit) {
+                redisTemplate.opsForSet().add(CELEBRITY_KEY, String.valueOf(authorId));
+                return;
+            }
+            pushToExistingTimelines(followerIds, String.valueOf(news.getId()), toScore(news.getCreatedAt()));
+        } catch (Exception e) {
+            log.warn("타임라인 전파 실패: newsId={}, {}", news.getId(), e.getMessage());
+        }
+    }
+
+    // 팔로우 시 대상의 최근 뉴스를 내 타임라인에 채움 (타임라인이 아직 없으면 조회 시 생성)
+    public void onFollow(Long followerId, Long targetId) {
+        try {
+            String key = timelineKey(followerId);
+            if (isCelebrity(targetId) || !Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                return;
+            }
+            List<NewsTimelineEntry> entries = newsRepository.findTimelineEntriesByUserIdIn(
+                    List.of(targetId), PageRequest.of(0, MAX_TIMELINE_SIZE));
+            if (!entries.isEmpty()) {
+                redisTemplate.opsForZSet().add(key, toTuples(entries));
+                redisTemplate.opsForZSet().removeRange(key, 0, -(MAX_TIMELINE_SIZE + 1));
+            }
+        } catch (Exception e) {
+            log.warn("타임라인 백필 실패: followerId={}, targetId={}, {}", followerId, targetId, e.getMessage());
+        }
+    }
+
+    public void onUnfollow(Long followerId, Long targetId) {
+        try {
+            String key = timelineKey(followerId);
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                return;
+            }
+            Object[] members = newsRepository.findTimelineEntriesByUserIdIn(List.of(targetId), PageRequest.of(0, MAX_TIMELINE_SIZE))
+                    .stream()
+                    .map(entry -> String.valueOf(entry.getId()))
+                    .toArray();
+            if (members.length > 0) {
+                redisTemplate.opsForZSet().remove(key, members);
+            }
+        } catch (Exception e) {
+            log.warn("타임라인 정리 실패: followerId={}, targetId={}, {}", followerId, targetId, e.getMessage());
+        }
+    }
+
+    // 삭제된 뉴스를 작성자 팔로워들의 타임라인에서 뺀다 (celebrity 는 전파하지 않았으므로 건너뜀)
+    public void onNewsDeleted(Long newsId, Long authorId) {
+        try {
+            if (isCelebrity(authorId)) {
+                return;
+            }
+            List<Long> followerIds = followRepository.findFollowerIds(authorId);
+            if (followerIds.isEmpty()) {
+                return;
+            }
+            String member = String.valueOf(newsId);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                followerIds.forEach(id -> conn.zRem(timelineKey(id), member));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("타임라인 삭제 전파 실패: newsId={}, {}", newsId, e.getMessage());
+        }
+    }
+
+    // 조회 중 발견한 없는 뉴스 id 정리 (삭제 전파가 실패한 경우 대비)
+    public void removeStale(Long userId, Collection<Long> newsIds) {
+        try {
+            redisTemplate.opsForZSet().remove(timelineKey(userId), newsIds.stream().map(String::valueOf).toArray());
+        } catch (Exception e) {
+            log.warn("타임라인 정리 실패: userId={}, {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 팔로우 탭 뉴스 id 를 최신순으로 반환한다.
+     * 타임라인 보관 범위를 넘는 페이지이거나 Redis 장애 시에는 null 을 반환하므로 DB 조회로 대체한다.
+     */
+    public Page<Long> getTimelineIds(Long userId, Pageable pageable) {
+        long limit = pageable.getOffset() + pageable.getPageSize();
+        if (limit > MAX_TIMELINE_SIZE) {
+            return null;
+        }
+        try {
+            String key = timelineKey(userId);
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                rebuild(userId);
+            }
+            redisTemplate.expire(key, TIMELINE_TTL);
+
+            Map<Long, Double> scores = new HashMap<>();
+            Set<ZSetOperations.TypedTuple<String>> pushed = redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, limit - 1);
+            if (pushed != null) {
+                pushed.forEach(tuple -> scores.put(Long.valueOf(tuple.getValue()), tuple.getScore()));
+            }
+            List<Long> celebrityIds = findFollowedCelebrities(userId);
+            if (!celebrityIds.isEmpty()) {
+                newsRepository.findTimelineEntriesByUserIdIn(celebrityIds, PageRequest.of(0, (int) limit))
+                        .forEach(entry -> scores.putIfAbsent(entry.getId(), toScore(entry.getCreatedAt())));
+            }
+            // ZSET 은 MAX_TIMELINE_SIZE 로 잘려 있고 셀럽 뉴스와 겹칠 수 있어 전체 개수는 DB 로 센다
+            long total = newsRepository.countByFollowingUsers(userId);
+
+            List<Long> ids = scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                    .skip(pageable.getOffset())
+                    .limit(pageable.getPageSize())
+                    .map(Map.Entry::getKey)
+                    .toList();
+            return new PageImpl<>(ids, pageable, total);
+        } catch (Exception e) {
+            log.warn("타임라인 조회 실패: userId={}, {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void rebuild(Long userId) {
+        Set<String> celebrities = celebrities();
+        List<Long> followingIds = followRepository.findFollowingIds(userId).stream()
+                .filter(id -> !celebrities.contains(String.valueOf(id)))
+                .toList();
+        if (followingIds.isEmpty()) {
+            return;
+        }
+        List<NewsTimelineEntry> entries = newsRepository.findTimelineEntriesByUserIdIn(followingIds, PageRequest.of(0, MAX_TIMELINE_SIZE));
+        if (!entries.isEmpty()) {
+            redisTemplate.opsForZSet().add(timelineKey(userId), toTuples(entries));
+        }
+    }
+
+    // 타임라인이 만들어진 팔로워에게만 추가 (없는 타임라인은 조회 시 DB 에서 전체 구성)
+    private void pushToExistingTimelines(List<Long> followerIds, String newsId, double score) {
+        if (followerIds.isEmpty()) {
+            return;
+        }
+        List<Object> exists = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            followerIds.forEach(id -> conn.exists(timelineKey(id)));
+            return null;
+        });
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (int i = 0; i < followerIds.size(); i++) {
+                if (Boolean.TRUE.equals(exists.get(i))) {
+                    String key = timelineKey(followerIds.get(i));
+                    conn.zAdd(key, score, newsId);
+                    conn.zRemRange(key, 0, -(MAX_TIMELINE_SIZE + 1));
+                }
+            }
+            return null;
+        });
+    }
+
+    private List<Long> findFollowedCelebrities(Long userId) {
+        Set<String> celebrities = celebrities();
+        if (celebrities.isEmpty()) {
+            return List.of();
+        }
+        List<Long> celebrityIds = celebrities.stream().map(Long::valueOf).toList();
+        return followRepository.findFollowingIdsIn(userId, celebrityIds);
+    }
+
+    private boolean isCelebrity(Long userId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(CELEBRITY_KEY, String.valueOf(userId)));
+    }
+
+    private Set<String> celebrities() {
+        Set<String> members = redisTemplate.opsForSet().members(CELEBRITY_KEY);
+        return members != null ? members : Set.of();
+    }
+
+    private Set<ZSetOperations.TypedTuple<String>> toTuples(List<NewsTimelineEntry> entries) {
+        return entries.stream()
+                .map(entry -> (ZSetOperations.TypedTuple<String>)
+                        new DefaultTypedTuple<>(String.valueOf(entry.getId()), toScore(entry.getCreatedAt())))
+                .collect(Collectors.toSet());
+    }
+
+    private double toScore(LocalDateTime createdAt) {
+        return createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private String timelineKey(Long userId) {
+        return TIMELINE_KEY_PREFIX + userId;
+    }
+}
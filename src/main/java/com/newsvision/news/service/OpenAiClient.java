@@ -0,0 +1,304 @@
+package com.newsvision.news.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.BufferedSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OpenAI Chat Completions 호출. 커넥션 풀을 공유하는 OkHttpClient 하나를 재사용한다.
+ * 요청 전에 분당 요청/토큰 한도(토큰 버킷)를 기다리고, 429/5xx/네트워크 오류는 지터를 준 지수 백오프로 재시도한다.
+ * base-url 을 바꾸면 로컬 mock 서버로도 호출할 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenAiClient {
+    private static final MediaType JSON = MediaType.get("application/json");
+    private static final String COMPLETIONS_PATH = "/v1/chat/completions";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${openai.api-key}")
+    private String apiKey;
+    @Value("${openai.base-url:https://api.openai.com}")
+    private String baseUrl;
+    @Value("${openai.model:gpt-3.5-turbo}")
+    private String model;
+    @Value("${openai.max-tokens:400}")
+    private int maxTokens;
+    @Value("${openai.rate-limit.requests-per-minute:500}")
+    private long requestsPerMinute;
+    @Value("${openai.rate-limit.tokens-per-minute:200000}")
+    private long tokensPerMinute;
+    @Value("${openai.retry.max-retries:4}")
+    private int maxRetries;
+    @Value("${openai.retry.base-delay-ms:500}")
+    private long baseDelayMs;
+    @Value("${openai.retry.max-delay-ms:20000}")
+    private long maxDelayMs;
+    @Value("${openai.max-connections:16}")
+    private int maxConnections;
+    // 스트리밍은 분당 한도 중 이 비율만큼은 남겨 두고 쓴다 (백그라운드 요약 몫)
+    @Value("${openai.stream.reserved-ratio:0.5}")
+    private double streamReservedRatio;
+
+    private OkHttpClient httpClient;
+    private TokenBucket requestBucket;
+    private TokenBucket tokenBucket;
+
+    @PostConstruct
+    public void init() {
+        // 스트리밍(enqueue) 동시 요청 수도 커넥션 수에 맞춘다 (기본 호스트당 5)
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(maxConnections);
+        httpClient = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(maxConnections, 5, TimeUnit.MINUTES))
+                .connectTimeout(5, TimeUnit.SECONDS)
+                .readTimeout(60, TimeUnit.SECONDS)
+                .callTimeout(90, TimeUnit.SECONDS)
+                .build();
+        requestBucket = TokenBucket.perMinute(requestsPerMinute);
+        tokenBucket = TokenBucket.perMinute(tokensPerMinute);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        httpClient.dispatcher().executorService().shutdown();
+        httpClient.connectionPool().evictAll();
+    }
+
+    public String chat(String systemPrompt, String userContent) throws IOException {
+        return chat(systemPrompt, userContent, maxTokens, false);
+    }
+
+    // 여러 기사 묶음 요약처럼 출력 길이가 다른 요청용. jsonOutput 이면 JSON 객체로만 답하게 한다 (프롬프트에 "JSON" 이 있어야 함)
+    public String chat(String systemPrompt, String userContent, int maxOutputTokens, boolean jsonOutput) throws IOException {
+        Request request = new Request.Builder()
+                .url(baseUrl + COMPLETIONS_PATH)
+                .post(RequestBody.create(requestBody(systemPrompt, userContent, maxOutputTokens, false, jsonOutput), JSON))
+                .addHeader("Authorization", "Bearer " + apiKey)
+                .build();
+        long estimatedTokens = estimateTokens(systemPrompt, userContent, maxOutputTokens);
+
+        for (int attempt = 0; ; attempt++) {
+            acquire(estimatedTokens);
+            Response response;
+            try {
+                response = httpClient.newCall(request).execute();
+            } catch (IOException e) {
+                if (attempt >= maxRetries || Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+                long delayMs = retryDelay(attempt, null);
+                log.warn("OpenAI 호출 실패, {}ms 후 재시도 ({}/{}): {}", delayMs, attempt + 1, maxRetries, e.getMessage());
+                sleep(delayMs);
+                continue;
+            }
+
+            long delayMs;
+            try (response) {
+                if (response.isSuccessful()) {
+                    JsonNode root = objectMapper.readTree(response.body().string());
+                    tokenBucket.adjust(root.path("usage").path("total_tokens").asLong(estimatedTokens) - estimatedTokens);
+                    return root.path("choices").path(0).path("message").path("content").asText().trim();
+                }
+                if (isRejected(response.code())) {
+                    throw new RequestRejectedException("OpenAI 요청 거부: " + response.code());
+                }
+                if (!isRetryable(response.code()) || attempt >= maxRetries) {
+                    throw new IOException("OpenAI 응답 오류: " + response.code());
+                }
+                delayMs = retryDelay(attempt, response.header("Retry-After"));
+                log.warn("OpenAI 응답 {}, {}ms 후 재시도 ({}/{})", response.code(), delayMs, attempt + 1, maxRetries);
+            }
+            sleep(delayMs);
+        }
+    }
+
+    /**
+     * stream=true 로 호출하고 생성되는 글자를 listener 로 바로 넘긴다.
+     * 호출한 스레드는 기다리지 않고 반환하며, 응답은 OkHttp dispatcher 스레드에서 읽는다.
+     * 사용자 요청용이라 한도가 모자라면 기다리지 않고, 재시도 없이 onError 로 알린다.
+     * 백그라운드 요약이 밀리지 않도록 분당 한도의 stream.reserved-ratio 만큼은 남겨 둔다.
+     */
+    public void streamChat(String systemPrompt, String userContent, StreamListener listener) {
+        long estimatedTokens = estimateTokens(systemPrompt, userContent, maxTokens);
+        Request request;
+        try {
+            request = new Request.Builder()
+                    .url(baseUrl + COMPLETIONS_PATH)
+                    .post(RequestBody.create(requestBody(systemPrompt, userContent, maxTokens, true, false), JSON))
+                    .addHeader("Authorization", "Bearer " + apiKey)
+                    .build();
+        } catch (IOException e) {
+            listener.onError(e);
+            return;
+        }
+        if (!requestBucket.tryAcquire(1, (long) (requestsPerMinute * streamReservedRatio))) {
+            listener.onError(new IOException("OpenAI 요청 한도 초과"));
+            return;
+        }
+        if (!tokenBucket.tryAcquire(estimatedTokens, (long) (tokensPerMinute * streamReservedRatio))) {
+            requestBucket.adjust(-1); // 보내지 않은 요청의 한도는 돌려준다
+            listener.onError(new IOException("OpenAI 토큰 한도 초과"));
+            return;
+        }
+
+        httpClient.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                listener.onError(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                String text;
+                try (response) {
+                    if (!response.isSuccessful()) {
+                        throw new IOException("OpenAI 응답 오류: " + response.code());
+                    }
+                    text = readStream(response.body().source(), estimatedTokens, listener);
+                } catch (Exception e) {
+                    listener.onError(e);
+                    return;
+                }
+                listener.onComplete(text);
+            }
+        });
+    }
+
+    // "data: {...}" 줄마다 choices[0].delta.content 를 전달, 마지막 usage 청크로 토큰 한도 보정
+    private String readStream(BufferedSource source, long estimatedTokens, StreamListener listener) throws IOException {
+        StringBuilder text = new StringBuilder();
+        long usedTokens = estimatedTokens;
+        String line;
+        while ((line = source.readUtf8Line()) != null) {
+            if (!line.startsWith("data:")) {
+                continue;
+            }
+            String data = line.substring(5).trim();
+            if ("[DONE]".equals(data)) {
+                break;
+            }
+            JsonNode chunk = objectMapper.readTree(data);
+            JsonNode usage = chunk.path("usage");
+            if (usage.has("total_tokens")) {
+                usedTokens = usage.get("total_tokens").asLong();
+            }
+            String delta = chunk.path("choices").path(0).path("delta").path("content").asText("");
+            if (!delta.isEmpty()) {
+                text.append(delta);
+                listener.onDelta(delta);
+            }
+        }
+        tokenBucket.adjust(usedTokens - estimatedTokens);
+        return text.toString().trim();
+    }
+
+    // 응답의 usage 로 보정하기 전까지 쓰는 추정치
+    private long estimateTokens(String systemPrompt, String userContent, int maxOutputTokens) {
+        return TokenEstimator.estimate(systemPrompt) + TokenEstimator.estimate(userContent) + maxOutputTokens;
+    }
+
+    private String requestBody(String systemPrompt, String userContent, int maxOutputTokens,
+                               boolean stream, boolean jsonOutput) throws IOException {
+        ObjectNode requestJson = objectMapper.createObjectNode();
+        requestJson.put("model", model);
+        requestJson.put("temperature", 0.7);
+        requestJson.put("max_tokens", maxOutputTokens);
+        if (stream) {
+            requestJson.put("stream", true);
+            requestJson.putObject("stream_options").put("include_usage", true);
+        }
+        if (jsonOutput) {
+            requestJson.putObject("response_format").put("type", "json_object");
+        }
+
+        ArrayNode messages = requestJson.putArray("messages");
+        messages.addObject().put("role", "system").put("content", systemPrompt);
+        messages.addObject().put("role", "user").put("content", userContent);
+        return objectMapper.writeValueAsString(requestJson);
+    }
+
+    private void acquire(long estimatedTokens) throws InterruptedIOException {
+        try {
+            requestBucket.acquire(1);
+            tokenBucket.acquire(estimatedTokens);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("OpenAI 한도 대기 중 중단");
+        }
+    }
+
+    // 요청 자체가 받아들여지지 않음 (컨텍스트 길이 초과 등). 같은 요청을 다시 보내도 소용없다
+    private boolean isRejected(int code) {
+        return code == 400 || code == 413;
+    }
+
+    private boolean isRetryable(int code) {
+        return code == 429 || code >= 500;
+    }
+
+    // Retry-After(초) 가 있으면 따르고, 없으면 full jitter: [0, min(max, base * 2^attempt)]
+    private long retryDelay(int attempt, String retryAfter) {
+        if (retryAfter != null) {
+            try {
+                return Math.min(TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim())), maxDelayMs);
+            } catch (NumberFormatException ignored) {
+                // HTTP-date 형식은 무시하고 백오프 사용
+            }
+        }
+        long ceiling = Math.min(maxDelayMs, baseDelayMs << Math.min(attempt, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void sleep(long delayMs) throws InterruptedIOException {
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("OpenAI 재시도 대기 중 중단");
+        }
+    }
+
+    public interface StreamListener {
+        void onDelta(String delta);
+
+        void onComplete(String text);
+
+        void onError(Exception e);
+    }
+
+    /**
+     * 400/413 처럼 요청 내용 때문에 거부된 경우. 재시도 한도를 다 쓴 429/5xx/네트워크 오류(IOException)와 구분해
+     * 호출하는 쪽에서 요청을 줄여 다시 보낼지 판단할 수 있게 한다.
+     */
+    public static class RequestRejectedException extends IOException {
+        public RequestRejectedException(String message) {
+            super(message);
+        }
+    }
+}
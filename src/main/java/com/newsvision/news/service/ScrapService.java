@@ -3,6 +3,7 @@ package com.newsvision.news.service;
 
 import com.newsvision.news.entity.News;
 import com.newsvision.news.entity.Scrap;
+import com.newsvision.news.repository.NewsRepository;
 import com.newsvision.news.repository.ScrapRepository;
 import com.newsvision.user.entity.User;
 import lombok.RequiredArgsConstructor;
@@ -18,17 +19,20 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class ScrapService {
     private final ScrapRepository scrapRepository;
+    private final NewsRepository newsRepository;
 
     public boolean existsScrap(Long newsId, Long userId) {
         return scrapRepository.existsByNewsIdAndUserId(newsId, userId);
     }
 
+    @Transactional
     public void save(News news, User user ) {
         Scrap scrap = Scrap.builder()
                 .user(user)
                 .news(news)
                 .build();
         scrapRepository.save(scrap);
+        newsRepository.increaseScrapCount(news.getId());
     }
 
     @Transactional
@@ -38,7 +42,9 @@ public class ScrapService {
 
     @Transactional
     public void deleteByUserAndNews(News news, User user) {
-        scrapRepository.deleteByUserAndNews(user, news);
+        if (scrapRepository.deleteByUserAndNews(user, news) > 0) {
+            newsRepository.decreaseScrapCount(news.getId());
+        }
     }
 
     public Page<Scrap> getMypageScrapList(Long id, Pageable pageable) {
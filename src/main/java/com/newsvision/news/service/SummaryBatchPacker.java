@@ -0,0 +1,43 @@
+package com.newsvision.news.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * 여러 기사를 한 요청에 담기 위한 묶음 나누기.
+ * 큰 기사부터 토큰 예산(budget)과 최대 개수(maxItems)를 넘지 않는 첫 묶음에 넣는다 (first-fit decreasing).
+ * 혼자서 예산을 넘는 기사는 단독 묶음이 된다.
+ */
+final class SummaryBatchPacker {
+
+    private SummaryBatchPacker() {
+    }
+
+    static <T> List<List<T>> pack(List<T> items, ToIntFunction<T> cost, int budget, int maxItems) {
+        List<T> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparingInt(cost).reversed());
+
+        List<List<T>> batches = new ArrayList<>();
+        List<Integer> used = new ArrayList<>();
+        for (T item : sorted) {
+            int itemCost = cost.applyAsInt(item);
+            int target = -1;
+            for (int i = 0; i < batches.size(); i++) {
+                if (batches.get(i).size() < maxItems && used.get(i) + itemCost <= budget) {
+                    target = i;
+                    break;
+                }
+            }
+            if (target < 0) {
+                batches.add(new ArrayList<>());
+                used.add(0);
+                target = batches.size() - 1;
+            }
+            batches.get(target).add(item);
+            used.set(target, used.get(target) + itemCost);
+        }
+        return batches;
+    }
+}
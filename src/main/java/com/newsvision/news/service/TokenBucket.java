@@ -0,0 +1,71 @@
+package com.newsvision.news.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OpenAI 요청/토큰 한도용 토큰 버킷.
+ * capacity 만큼 쌓이고 초당 refillPerSecond 씩 채워지며, acquire 는 토큰이 모자라면 채워질 때까지 기다린다.
+ * 실제 사용량을 응답에서 알게 되면 adjust 로 예상치와의 차이를 반영한다 (음수 잔량 허용).
+ */
+final class TokenBucket {
+    private static final long MIN_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final long capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(long capacity, double refillPerSecond) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity, refillPerSecond must be positive");
+        }
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    // 분당 한도 그대로 (1분에 걸쳐 균등하게 채움)
+    static TokenBucket perMinute(long limit) {
+        return new TokenBucket(limit, limit / 60.0);
+    }
+
+    // capacity 보다 큰 요청은 capacity 만큼만 기다린다 (영원히 못 얻는 일 방지)
+    void acquire(long permits) throws InterruptedException {
+        long requested = Math.min(permits, capacity);
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                refill();
+                if (tokens >= requested) {
+                    tokens -= requested;
+                    return;
+                }
+                waitNanos = (long) Math.ceil((requested - tokens) / refillPerNano);
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.max(waitNanos, MIN_WAIT_NANOS));
+        }
+    }
+
+    // 기다리지 않고, 차감 후에도 reserve 이상 남을 때만 차감 (reserve 는 acquire 로 기다리는 쪽 몫)
+    synchronized boolean tryAcquire(long permits, long reserve) {
+        refill();
+        long requested = Math.min(permits, capacity);
+        if (tokens - requested < reserve) {
+            return false;
+        }
+        tokens -= requested;
+        return true;
+    }
+
+    synchronized void adjust(long delta) {
+        refill();
+        tokens = Math.min(capacity, tokens - delta);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,41 @@
+package com.newsvision.news.service;
+
+/**
+ * OpenAI 토큰 수 근사치. 토크나이저 라이브러리 없이 글자 종류로만 센다.
+ * 영문/숫자는 대략 4글자당 1토큰, 한글/한자는 글자당 1.5토큰, 그 외 기호는 글자당 1토큰으로 잡아
+ * 실제보다 조금 크게 나오도록 했다 (한도를 넘기지 않는 쪽이 안전하다).
+ */
+final class TokenEstimator {
+
+    private TokenEstimator() {
+    }
+
+    static int estimate(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        double tokens = 0;
+        int asciiRun = 0;
+        for (int i = 0; i < text.length(); ) {
+            int cp = text.codePointAt(i);
+            i += Character.charCount(cp);
+            if (cp < 0x80 && Character.isLetterOrDigit(cp)) {
+                asciiRun++;
+                continue;
+            }
+            tokens += Math.ceil(asciiRun / 4.0);
+            asciiRun = 0;
+            if (Character.isWhitespace(cp)) {
+                continue;
+            }
+            tokens += isHangulOrHan(cp) ? 1.5 : 1;
+        }
+        tokens += Math.ceil(asciiRun / 4.0);
+        return (int) Math.ceil(tokens);
+    }
+
+    private static boolean isHangulOrHan(int cp) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(cp);
+        return script == Character.UnicodeScript.HANGUL || script == Character.UnicodeScript.HAN;
+    }
+}
@@ -4,12 +4,14 @@ import com.newsvision.global.Utils.TimeUtil;
 import com.newsvision.poll.entity.Poll;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @AllArgsConstructor
+@NoArgsConstructor
 public class PollListResponse {
-    private final Long id;
-    private final String title;
+    private Long id;
+    private String title;
     private String createdAt;
     private String expiredAt;
     private String nickname;
@@ -2,7 +2,11 @@ package com.newsvision.poll.repository;
 
 import com.newsvision.poll.entity.PollVote;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PollVoteRepository extends JpaRepository<PollVote, Long> {
@@ -13,4 +17,7 @@ public interface PollVoteRepository extends JpaRepository<PollVote, Long> {
     boolean existsByPollOption_Poll_IdAndUser_Id(Long pollOptionPollId, Long userId);
 
     void deleteByUserId(Long id);
+
+    @Query("SELECT pv.pollOption.poll.id FROM PollVote pv WHERE pv.user.id = :userId AND pv.pollOption.poll.id IN :pollIds")
+    List<Long> findVotedPollIds(@Param("userId") Long userId, @Param("pollIds") Collection<Long> pollIds);
 }
@@ -1,8 +1,12 @@
 package com.newsvision.poll.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.newsvision.global.Utils.TimeUtil;
+import com.newsvision.global.cache.CacheType;
+import com.newsvision.global.cache.TwoLevelCache;
 import com.newsvision.global.exception.CustomException;
 import com.newsvision.global.exception.ErrorCode;
+import com.newsvision.news.event.NewsMainChangedEvent;
 import com.newsvision.poll.dto.request.CreatePollRequest;
 import com.newsvision.poll.dto.request.UpdatePollRequest;
 import com.newsvision.poll.dto.request.VoteRequest;
@@ -16,10 +20,11 @@ import com.newsvision.poll.repository.PollOptionRepository;
 import com.newsvision.poll.repository.PollRepository;
 import com.newsvision.poll.repository.PollVoteRepository;
 import com.newsvision.user.entity.User;
-import com.newsvision.user.service.FollowService;
 import com.newsvision.user.service.UserService;
+import com.newsvision.user.service.ViewerStateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -38,32 +43,37 @@ public class PollService {
     private final PollRepository pollRepository;
     private final UserService userService;
     private final PollOptionService pollOptionService;
-    private final PollVoteService pollVoteService;
-    private final FollowService followService;
+    private final ViewerStateService viewerStateService;
     private final PollOptionRepository pollOptionRepository;
     private final PollVoteRepository pollVoteRepository;
+    private final TwoLevelCache twoLevelCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Poll findById(Long id) {
         return pollRepository.findById(id).orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND));
     }
 
     public List<PollListResponse> getAllList() {
-        LocalDateTime now = LocalDateTime.now();
-        List<Poll> polls = pollRepository.findAllByExpiredAtAfter(now);
-        return polls.stream()
-                .map(PollListResponse::new)
-                .toList();
+        return twoLevelCache.get(CacheType.POLL_LIST, "all", new TypeReference<List<PollListResponse>>() {}, () -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Poll> polls = pollRepository.findAllByExpiredAtAfter(now);
+            return polls.stream()
+                    .map(PollListResponse::new)
+                    .toList();
+        });
     }
 
     public List<PollListResponse> getRecentList() {
-        LocalDateTime now = LocalDateTime.now();
-        Pageable topTen = PageRequest.of(0, 10);
-        List<Poll> polls = pollRepository
-                .findByExpiredAtAfterOrderByExpiredAtAsc(now, topTen)
-                .stream().toList();
-        return polls.stream()
-                .map(PollListResponse::new)
-                .toList();
+        return twoLevelCache.get(CacheType.POLL_LIST, "recent", new TypeReference<List<PollListResponse>>() {}, () -> {
+            LocalDateTime now = LocalDateTime.now();
+            Pageable topTen = PageRequest.of(0, 10);
+            List<Poll> polls = pollRepository
+                    .findByExpiredAtAfterOrderByExpiredAtAsc(now, topTen)
+                    .stream().toList();
+            return polls.stream()
+                    .map(PollListResponse::new)
+                    .toList();
+        });
     }
 
     public PollResponse getPoll(Long pollId, Long userId) {
@@ -72,8 +82,10 @@ public class PollService {
     }
 
     private PollResponse convertToPollResponse(Poll poll, Long userId) {
-        boolean voted = userId != null && pollVoteService.existsByPollVote(poll.getId(), userId);
-        boolean followed = userId != null && followService.existsFollow(userId, poll.getUser().getId());
+        ViewerStateService.ViewerState viewerState = viewerStateService.resolvePolls(
+                userId, List.of(poll.getId()), List.of(poll.getUser().getId()));
+        boolean voted = viewerState.isVoted(poll.getId());
+        boolean followed = viewerState.isFollowed(poll.getUser().getId());
 
         // pollOptions를 repository에서 직접 조회
         List<PollOption> pollOptions = pollOptionRepository.findByPoll(poll);
@@ -121,6 +133,8 @@ public class PollService {
                         .build())
                 .collect(Collectors.toList());
         pollOptionRepository.saveAll(pollOptions);
+        twoLevelCache.evictAll(CacheType.POLL_LIST);
+        eventPublisher.publishEvent(new NewsMainChangedEvent());
 
         return convertToPollResponse(savedPoll, userId);
     }
@@ -158,6 +172,8 @@ public class PollService {
         poll.getPollOptions().addAll(newOptions);
 
         pollRepository.save(poll);
+        twoLevelCache.evictAll(CacheType.POLL_LIST);
+        eventPublisher.publishEvent(new NewsMainChangedEvent());
         return convertToPollResponse(poll, userId);
     }
 
@@ -191,5 +207,7 @@ public class PollService {
         userService.matchUserId(userId, poll.getUser().getId());
         pollVoteRepository.deleteByPollOption_Poll_Id(pollId);
         pollRepository.delete(poll);
+        twoLevelCache.evictAll(CacheType.POLL_LIST);
+        eventPublisher.publishEvent(new NewsMainChangedEvent());
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.newsvision.user.service;
 
 import com.newsvision.mypage.dto.response.FollowResponse;
+import com.newsvision.news.service.NewsTimelineService;
 import com.newsvision.notice.entity.Notice;
 import com.newsvision.notice.service.NoticeService;
 import com.newsvision.user.entity.Follow;
@@ -21,6 +22,7 @@ public class FollowService {
     private final FollowRepository followRepository;
     private final UserService userService;
     private final NoticeService noticeService;
+    private final NewsTimelineService newsTimelineService;
 
     public int getCountFollower(User user) {
         return followRepository.countByFollowing(user);
@@ -42,6 +44,7 @@ public class FollowService {
                 .following(target)
                 .build();
         followRepository.save(follow);
+        newsTimelineService.onFollow(myId, targetId);
 
         String url = "/userPage/" + myId;
         noticeService.createAndSendNotice(my, target, Notice.Type.FOLLOW, url, "회원님을 팔로우하기 시작했습니다.");
@@ -50,6 +53,7 @@ public class FollowService {
     @Transactional
     public void unFollow(Long myId, Long targetId) {
         followRepository.deleteByFollower_IdAndFollowing_Id(myId, targetId);
+        newsTimelineService.onUnfollow(myId, targetId);
     }
 
     public boolean existsFollow(Long followerId, Long followingId) {
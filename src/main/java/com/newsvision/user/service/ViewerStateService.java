@@ -0,0 +1,101 @@
+package com.newsvision.user.service;
+
+import com.newsvision.board.repository.BoardLikeRepository;
+import com.newsvision.news.repository.NewsLikeRepository;
+import com.newsvision.news.repository.ScrapRepository;
+import com.newsvision.poll.repository.PollVoteRepository;
+import com.newsvision.user.repository.FollowRepository;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 로그인 유저 기준 좋아요/스크랩/팔로우/투표 여부를 대상 id 묶음으로 한 번에 조회한다.
+ * 관계별로 IN 쿼리 한 번씩만 실행하므로 목록 화면에서도 건별 exists 쿼리가 생기지 않는다.
+ * 현재 목록 중 뷰어 여부를 내려주는 곳은 게시판 목록뿐이다. 뉴스/투표 목록 응답은 유저 공용 캐시라
+ * 여부 필드가 없고, 뉴스/투표 상세는 단건이므로 id 하나로 호출한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ViewerStateService {
+    private final NewsLikeRepository newsLikeRepository;
+    private final ScrapRepository scrapRepository;
+    private final BoardLikeRepository boardLikeRepository;
+    private final PollVoteRepository pollVoteRepository;
+    private final FollowRepository followRepository;
+
+    public ViewerState resolveNews(Long userId, Collection<Long> newsIds, Collection<Long> authorIds) {
+        if (userId == null) {
+            return ViewerState.EMPTY;
+        }
+        return new ViewerState(
+                query(newsIds, () -> newsLikeRepository.findLikedNewsIds(userId, newsIds)),
+                query(newsIds, () -> scrapRepository.findScrapedNewsIds(userId, newsIds)),
+                query(authorIds, () -> followRepository.findFollowingIdsIn(userId, authorIds)),
+                Set.of());
+    }
+
+    public ViewerState resolveBoards(Long userId, Collection<Long> boardIds, Collection<Long> authorIds) {
+        if (userId == null) {
+            return ViewerState.EMPTY;
+        }
+        return new ViewerState(
+                query(boardIds, () -> boardLikeRepository.findLikedBoardIds(userId, boardIds)),
+                Set.of(),
+                query(authorIds, () -> followRepository.findFollowingIdsIn(userId, authorIds)),
+                Set.of());
+    }
+
+    public ViewerState resolvePolls(Long userId, Collection<Long> pollIds, Collection<Long> authorIds) {
+        if (userId == null) {
+            return ViewerState.EMPTY;
+        }
+        return new ViewerState(
+                Set.of(),
+                Set.of(),
+                query(authorIds, () -> followRepository.findFollowingIdsIn(userId, authorIds)),
+                query(pollIds, () -> pollVoteRepository.findVotedPollIds(userId, pollIds)));
+    }
+
+    // 대상이 없으면 쿼리 생략 (빈 IN 절 방지)
+    private Set<Long> query(Collection<Long> ids, Supplier<List<Long>> finder) {
+        if (ids == null || ids.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(finder.get());
+    }
+
+    @AllArgsConstructor
+    public static class ViewerState {
+        public static final ViewerState EMPTY = new ViewerState(Set.of(), Set.of(), Set.of(), Set.of());
+
+        private final Set<Long> likedIds;
+        private final Set<Long> scrapedIds;
+        private final Set<Long> followedUserIds;
+        private final Set<Long> votedIds;
+
+        public boolean isLiked(Long targetId) {
+            return likedIds.contains(targetId);
+        }
+
+        public boolean isScraped(Long targetId) {
+            return scrapedIds.contains(targetId);
+        }
+
+        public boolean isFollowed(Long userId) {
+            return followedUserIds.contains(userId);
+        }
+
+        public boolean isVoted(Long pollId) {
+            return votedIds.contains(pollId);
+        }
+    }
+}
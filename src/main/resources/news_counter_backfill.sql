@@ -0,0 +1,5 @@
+-- news.like_count / scrap_count 컬럼 추가 후 기존 뉴스 카운터 채우기
+-- 애플리케이션 시작 시 NewsCounterReconciler 도 같은 보정을 하지만, 배포 전에 미리 실행해 두면 첫 기동부터 랭킹이 맞다
+UPDATE news n
+SET n.like_count = (SELECT COUNT(*) FROM news_likes nl WHERE nl.news_id = n.news_id),
+    n.scrap_count = (SELECT COUNT(*) FROM scraps s WHERE s.news_id = n.news_id);
@@ -0,0 +1,4 @@
+-- ES 장애 시 MySQL fallback 검색용 FULLTEXT 인덱스 (ngram 파서, ngram_token_size 기본값 2)
+-- JPA @Index 로는 FULLTEXT 를 만들 수 없어서 배포 전에 한 번 실행한다
+ALTER TABLE news ADD FULLTEXT INDEX ft_news_title_content (title, content) WITH PARSER ngram;
+ALTER TABLE boards ADD FULLTEXT INDEX ft_boards_content (content) WITH PARSER ngram;
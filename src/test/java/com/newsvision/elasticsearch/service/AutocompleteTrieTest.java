@@ -0,0 +1,71 @@
+package com.newsvision.elasticsearch.service;
+
+import com.newsvision.global.Utils.JasoUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AutocompleteTrieTest {
+
+    private final Map<String, Long> weights = Map.of(
+            "경제", 5L,
+            "경제성장", 2L,
+            "경찰", 9L,
+            "가정", 1L,
+            "반도체", 3L,
+            "뉴스", 4L,
+            "갑시다", 1L,
+            "과학", 2L
+    );
+
+    private static String key(String text) {
+        StringBuilder sb = new StringBuilder();
+        JasoUtils.appendJamoKey(text, sb);
+        return sb.toString();
+    }
+
+    @Test
+    void 자모_접두어_가중치순_추천() {
+        AutocompleteTrie trie = AutocompleteTrie.build(weights, JasoUtils::appendJamoKey, 10);
+
+        List<String> result = trie.suggest(key("경"), 10);
+
+        assertEquals(List.of("경찰", "경제", "경제성장"), result);
+    }
+
+    @Test
+    void 압축된_간선_중간에서_끝나는_접두어() {
+        AutocompleteTrie trie = AutocompleteTrie.build(weights, JasoUtils::appendJamoKey, 10);
+
+        assertEquals(List.of("반도체"), trie.suggest(key("반도"), 10));
+        assertTrue(trie.suggest(key("반도치"), 10).isEmpty());
+    }
+
+    @Test
+    void 초성_키로_추천_및_개수_제한() {
+        AutocompleteTrie trie = AutocompleteTrie.build(weights, JasoUtils::appendChosung, 10);
+
+        assertEquals(List.of("경제", "경제성장", "가정"), trie.suggest("ㄱㅈ", 10));
+        assertEquals(List.of("경찰"), trie.suggest("ㄱ", 1));
+    }
+
+    @Test
+    void 음절_중간까지_입력한_접두어() {
+        AutocompleteTrie trie = AutocompleteTrie.build(weights, JasoUtils::appendJamoKey, 10);
+
+        assertEquals(List.of("경제", "경제성장"), trie.suggest(key("경ㅈ"), 10));
+        assertEquals(List.of("뉴스"), trie.suggest(key("뉴ㅅ"), 10));
+    }
+
+    @Test
+    void 겹받침_겹모음을_입력_중인_접두어() {
+        AutocompleteTrie trie = AutocompleteTrie.build(weights, JasoUtils::appendJamoKey, 10);
+
+        // "갑시" 를 치는 중에는 "값" 이 먼저 보인다
+        assertEquals(List.of("갑시다"), trie.suggest(key("값"), 10));
+        assertEquals(List.of("과학"), trie.suggest(key("고"), 10));
+    }
+}
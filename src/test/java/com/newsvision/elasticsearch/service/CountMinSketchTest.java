@@ -0,0 +1,82 @@
+package com.newsvision.elasticsearch.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountMinSketchTest {
+
+    @Test
+    void 추정치는_실제값보다_작지_않음() {
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+        for (int i = 0; i < 200; i++) {
+            sketch.add("keyword" + (i % 50), 1);
+        }
+        sketch.add("경제", 7);
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(sketch.estimate("keyword" + i) >= 4);
+        }
+        assertTrue(sketch.estimate("경제") >= 7);
+    }
+
+    @Test
+    void 충돌이_없으면_정확한_값() {
+        CountMinSketch sketch = new CountMinSketch(4, 1024);
+
+        assertEquals(3, sketch.add("뉴스", 3));
+        assertEquals(5, sketch.add("뉴스", 2));
+        assertEquals(5, sketch.estimate("뉴스"));
+        assertEquals(0, sketch.estimate("없는 검색어"));
+    }
+
+    @Test
+    void 병합하면_칸별로_더함() {
+        CountMinSketch a = new CountMinSketch(4, 256);
+        CountMinSketch b = new CountMinSketch(4, 256);
+        a.add("뉴스", 3);
+        a.add("경제", 1);
+        b.add("뉴스", 4);
+        b.add("정치", 2);
+
+        CountMinSketch merged = new CountMinSketch(4, 256);
+        merged.merge(a);
+        merged.merge(b);
+
+        for (int i = 0; i < merged.cellCount(); i++) {
+            assertEquals(a.cell(i) + b.cell(i), merged.cell(i));
+        }
+        assertTrue(merged.estimate("뉴스") >= 7);
+        assertTrue(merged.estimate("경제") >= 1);
+        assertTrue(merged.estimate("정치") >= 2);
+    }
+
+    @Test
+    void 바이트_배열로_복원() {
+        CountMinSketch sketch = new CountMinSketch(2, 8);
+        sketch.add("뉴스", 5);
+        ByteBuffer buffer = ByteBuffer.allocate(sketch.cellCount() * Integer.BYTES);
+        for (int i = 0; i < sketch.cellCount(); i++) {
+            buffer.putInt(sketch.cell(i));
+        }
+
+        CountMinSketch restored = CountMinSketch.fromBytes(2, 8, buffer.array());
+
+        assertEquals(5, restored.estimate("뉴스"));
+    }
+
+    @Test
+    void 짧거나_없는_바이트_배열은_나머지를_0으로() {
+        byte[] bytes = ByteBuffer.allocate(Integer.BYTES).putInt(9).array();
+
+        CountMinSketch restored = CountMinSketch.fromBytes(2, 8, bytes);
+
+        assertEquals(9, restored.cell(0));
+        for (int i = 1; i < restored.cellCount(); i++) {
+            assertEquals(0, restored.cell(i));
+        }
+        assertEquals(0, CountMinSketch.fromBytes(2, 8, null).estimate("뉴스"));
+    }
+}
@@ -0,0 +1,97 @@
+package com.newsvision.elasticsearch.service;
+
+import com.newsvision.global.exception.CustomException;
+import com.newsvision.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchCircuitBreakerTest {
+
+    private static final long OPEN_DURATION_MS = 50;
+
+    private SearchCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new SearchCircuitBreaker();
+        ReflectionTestUtils.setField(breaker, "failureThreshold", 3);
+        ReflectionTestUtils.setField(breaker, "openDurationMs", OPEN_DURATION_MS);
+    }
+
+    @Test
+    void 연속_실패가_임계치에_닿으면_열리고_호출하지_않는다() {
+        failTimes(2);
+        assertEquals(SearchCircuitBreaker.State.CLOSED, breaker.getState());
+
+        failTimes(1);
+        assertEquals(SearchCircuitBreaker.State.OPEN, breaker.getState());
+
+        AtomicInteger calls = new AtomicInteger();
+        CustomException e = assertThrows(CustomException.class, () -> breaker.execute(calls::incrementAndGet));
+        assertEquals(ErrorCode.SEARCH_UNAVAILABLE, e.getErrorCode());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void 성공하면_연속_실패_횟수가_초기화된다() {
+        failTimes(2);
+        assertEquals("ok", breaker.execute(() -> "ok"));
+        failTimes(2);
+
+        assertEquals(SearchCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void 열린_시간이_지나면_한_요청만_통과시키고_성공하면_닫힌다() throws InterruptedException {
+        failTimes(3);
+        Thread.sleep(OPEN_DURATION_MS + 20);
+
+        String result = breaker.execute(() -> {
+            assertEquals(SearchCircuitBreaker.State.HALF_OPEN, breaker.getState());
+            // 시험 요청이 끝나기 전의 다른 요청은 막힌다
+            assertThrows(CustomException.class, () -> breaker.execute(() -> "other"));
+            return "probe";
+        });
+
+        assertEquals("probe", result);
+        assertEquals(SearchCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void 시험_요청이_실패하면_다시_열린다() throws InterruptedException {
+        failTimes(3);
+        Thread.sleep(OPEN_DURATION_MS + 20);
+
+        failTimes(1);
+
+        assertEquals(SearchCircuitBreaker.State.OPEN, breaker.getState());
+        assertThrows(CustomException.class, () -> breaker.execute(() -> "blocked"));
+    }
+
+    @Test
+    void 요청_오류는_장애로_세지_않고_그대로_던진다() {
+        for (int i = 0; i < 5; i++) {
+            CustomException e = assertThrows(CustomException.class, () -> breaker.execute(() -> {
+                throw new CustomException(ErrorCode.INVALID_INPUT);
+            }));
+            assertEquals(ErrorCode.INVALID_INPUT, e.getErrorCode());
+        }
+
+        assertEquals(SearchCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    private void failTimes(int times) {
+        for (int i = 0; i < times; i++) {
+            CustomException e = assertThrows(CustomException.class, () -> breaker.execute(() -> {
+                throw new IOException("timeout");
+            }));
+            assertEquals(ErrorCode.SEARCH_UNAVAILABLE, e.getErrorCode());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.newsvision.elasticsearch.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchLogRingBufferTest {
+
+    @Test
+    void 용량은_2의_거듭제곱으로_올림() {
+        assertEquals(8, new SearchLogRingBuffer<Integer>(5).capacity());
+        assertEquals(8, new SearchLogRingBuffer<Integer>(8).capacity());
+        assertEquals(2, new SearchLogRingBuffer<Integer>(1).capacity());
+    }
+
+    @Test
+    void 가득_차면_버리고_false() {
+        SearchLogRingBuffer<Integer> buffer = new SearchLogRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        assertFalse(buffer.offer(4));
+
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(4, buffer.drain(drained::add, 10));
+        assertEquals(List.of(0, 1, 2, 3), drained);
+    }
+
+    @Test
+    void 한바퀴_돌아도_순서_유지() {
+        SearchLogRingBuffer<Integer> buffer = new SearchLogRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+        int next = 0;
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(buffer.offer(next++));
+            }
+            buffer.drain(drained::add, 3);
+        }
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < next; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, drained);
+    }
+
+    @Test
+    void drain_은_max_개까지만_꺼낸다() {
+        SearchLogRingBuffer<Integer> buffer = new SearchLogRingBuffer<>(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+
+        assertEquals(2, buffer.drain(drained::add, 2));
+        assertEquals(3, buffer.drain(drained::add, 10));
+        assertEquals(0, buffer.drain(drained::add, 10));
+        assertEquals(List.of(0, 1, 2, 3, 4), drained);
+        assertTrue(buffer.offer(5));
+    }
+
+    @Test
+    void 여러_생산자가_넣어도_빠짐_없음() throws InterruptedException {
+        SearchLogRingBuffer<Integer> buffer = new SearchLogRingBuffer<>(1 << 16);
+        int producers = 4;
+        int perProducer = 10_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    assertTrue(buffer.offer(base + i));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        boolean[] seen = new boolean[producers * perProducer];
+        int drained = buffer.drain(item -> seen[item] = true, Integer.MAX_VALUE);
+
+        assertEquals(producers * perProducer, drained);
+        for (boolean s : seen) {
+            assertTrue(s);
+        }
+    }
+}
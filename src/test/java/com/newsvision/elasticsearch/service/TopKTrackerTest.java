@@ -0,0 +1,57 @@
+package com.newsvision.elasticsearch.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopKTrackerTest {
+
+    @Test
+    void 가득_차면_최소값보다_클_때만_교체() {
+        TopKTracker tracker = new TopKTracker(2);
+        tracker.offer("뉴스", 5);
+        tracker.offer("경제", 3);
+
+        tracker.offer("정치", 1);
+        assertEquals(Set.of("뉴스", "경제"), tracker.keywords());
+
+        tracker.offer("사회", 4);
+        assertEquals(Set.of("뉴스", "사회"), tracker.keywords());
+    }
+
+    @Test
+    void 이미_있는_키워드는_값만_갱신() {
+        TopKTracker tracker = new TopKTracker(2);
+        tracker.offer("뉴스", 5);
+        tracker.offer("경제", 3);
+
+        tracker.offer("경제", 10);
+
+        assertEquals(List.of(new TopKTracker.Candidate("경제", 10), new TopKTracker.Candidate("뉴스", 5)),
+                tracker.sorted());
+    }
+
+    @Test
+    void 많은_순_같으면_키워드_순() {
+        TopKTracker tracker = new TopKTracker(3);
+        tracker.offer("b", 2);
+        tracker.offer("a", 2);
+        tracker.offer("c", 7);
+
+        assertEquals(List.of("c", "a", "b"), tracker.sorted().stream().map(TopKTracker.Candidate::keyword).toList());
+    }
+
+    @Test
+    void 같은_값이면_키워드_순으로_뒤쪽을_교체() {
+        TopKTracker tracker = new TopKTracker(2);
+        tracker.offer("a", 1);
+        tracker.offer("c", 1);
+
+        tracker.offer("b", 1);
+
+        assertEquals(Set.of("a", "b"), tracker.keywords());
+    }
+}
@@ -0,0 +1,33 @@
+package com.newsvision.global.Utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentHashUtilTest {
+
+    @Test
+    void 태그와_엔티티를_정리하고_공백을_하나로() {
+        assertEquals("제목 본문 <인용> & \"따옴표\" 'a'",
+                ContentHashUtil.normalize("<p>제목</p>\n\n<b>본문</b>&nbsp;&lt;인용&gt; &amp; &quot;따옴표&quot; &#39;a&#39;"));
+    }
+
+    @Test
+    void null_은_빈_문자열() {
+        assertEquals("", ContentHashUtil.normalize(null));
+    }
+
+    @Test
+    void 표시_형식만_다르면_같은_해시() {
+        String a = ContentHashUtil.sha256(ContentHashUtil.normalize("<p>경제 성장</p>"));
+        String b = ContentHashUtil.sha256(ContentHashUtil.normalize("  경제\t성장 "));
+
+        assertEquals(a, b);
+        assertNotEquals(a, ContentHashUtil.sha256(ContentHashUtil.normalize("경제 성장률")));
+    }
+
+    @Test
+    void sha256_은_64자리_16진수() {
+        assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", ContentHashUtil.sha256(""));
+    }
+}
@@ -0,0 +1,51 @@
+package com.newsvision.global.Utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 이미 색인된 titleJaso / titleChosung 이 그대로 유효하도록 변경 전 구현과 결과가 같아야 한다
+class JasoUtilsTest {
+    private static final List<String> EDGE_INPUTS = List.of(
+            "", " ", "   ", "\t", "\r\n",
+            "경제", " 경제", "경제 ", "  경제  성장  ", "경제\t성장", "\t경제\n성장\t",
+            "abc", "abc def", "123 !!", "abc 경제", "경제 abc 성장",
+            "ㄱㄴ 경제", "값싼 닭", "삼성전자, 2분기 실적 발표");
+
+    @Test
+    void 경계_입력에서_변경_전과_같은_결과() {
+        for (String text : EDGE_INPUTS) {
+            assertEquals(LegacyJasoUtils.splitJaso(text), JasoUtils.splitJaso(text), "splitJaso: [" + text + "]");
+            assertEquals(LegacyJasoUtils.extractChosung(text), JasoUtils.extractChosung(text), "extractChosung: [" + text + "]");
+        }
+    }
+
+    @Test
+    void 임의_입력에서_변경_전과_같은_결과() {
+        String alphabet = "가나다경제성장값닭뷁ㄱㅏa1 \t\n,.";
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                sb.append(random.nextInt(4) == 0
+                        ? (char) (0xAC00 + random.nextInt(0xD7A3 - 0xAC00 + 1))
+                        : alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String text = sb.toString();
+            assertEquals(LegacyJasoUtils.splitJaso(text), JasoUtils.splitJaso(text));
+            assertEquals(LegacyJasoUtils.extractChosung(text), JasoUtils.extractChosung(text));
+        }
+    }
+
+    @Test
+    void 버퍼에_이어서_쓰기() {
+        StringBuilder out = new StringBuilder("앞");
+        JasoUtils.appendChosung("  경제  성장 ", out);
+
+        assertEquals("앞" + LegacyJasoUtils.extractChosung("  경제  성장 "), out.toString());
+    }
+}
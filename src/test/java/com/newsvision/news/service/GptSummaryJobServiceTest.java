@@ -0,0 +1,131 @@
+package com.newsvision.news.service;
+
+import com.newsvision.news.entity.GptSummaryJob;
+import com.newsvision.news.repository.GptSummaryJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GptSummaryJobServiceTest {
+
+    @InjectMocks
+    private GptSummaryJobService gptSummaryJobService;
+
+    @Mock
+    private GptSummaryJobRepository gptSummaryJobRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(gptSummaryJobService, "leaseSeconds", 300L);
+        ReflectionTestUtils.setField(gptSummaryJobService, "maxRetries", 10);
+    }
+
+    @Test
+    void 선점하면_임대_시간만큼_다른_서버에서_안_보임() {
+        GptSummaryJob job = job(0, 0);
+        when(gptSummaryJobRepository.claim(eq(1L), eq(0), any(), any())).thenReturn(1);
+
+        assertTrue(gptSummaryJobService.claim(job));
+
+        ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<LocalDateTime> leaseUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(gptSummaryJobRepository).claim(eq(1L), eq(0), now.capture(), leaseUntil.capture());
+        assertEquals(Duration.ofSeconds(300), Duration.between(now.getValue(), leaseUntil.getValue()));
+    }
+
+    @Test
+    void 임대가_남았거나_revision_이_바뀌었으면_선점_실패() {
+        when(gptSummaryJobRepository.claim(eq(1L), eq(0), any(), any())).thenReturn(0);
+
+        assertFalse(gptSummaryJobService.claim(job(0, 0)));
+    }
+
+    @Test
+    void 처리한_revision_그대로면_삭제() {
+        when(gptSummaryJobRepository.deleteByIdAndRevision(1L, 2)).thenReturn(1);
+
+        gptSummaryJobService.complete(job(2, 0));
+
+        verify(gptSummaryJobRepository, never()).release(any(), any());
+    }
+
+    @Test
+    void 처리_중에_수정됐으면_지우지_않고_바로_다시_처리() {
+        when(gptSummaryJobRepository.deleteByIdAndRevision(1L, 2)).thenReturn(0);
+
+        gptSummaryJobService.complete(job(2, 0));
+
+        verify(gptSummaryJobRepository).release(eq(1L), any());
+    }
+
+    @Test
+    void 실패하면_지수_백오프로_재시도_예약() {
+        assertBackoff(0, 10);
+        assertBackoff(3, 80);
+        assertBackoff(9, 3600);
+    }
+
+    @Test
+    void 실패_처리_중에_수정됐으면_백오프_없이_다시_처리() {
+        when(gptSummaryJobRepository.scheduleRetry(eq(1L), eq(1), any())).thenReturn(0);
+
+        gptSummaryJobService.fail(job(1, 0));
+
+        verify(gptSummaryJobRepository).release(eq(1L), any());
+    }
+
+    @Test
+    void 재시도_한도를_넘으면_포기() {
+        when(gptSummaryJobRepository.deleteByIdAndRevision(1L, 0)).thenReturn(1);
+
+        gptSummaryJobService.fail(job(0, 10));
+
+        verify(gptSummaryJobRepository, never()).scheduleRetry(any(), anyInt(), any());
+        verify(gptSummaryJobRepository).deleteByIdAndRevision(1L, 0);
+    }
+
+    @Test
+    void 처리_중인_작업의_임대_연장() {
+        LocalDateTime before = LocalDateTime.now();
+
+        gptSummaryJobService.renewLeases(List.of(job(0, 0), GptSummaryJob.builder().id(2L).newsId(2L).revision(3).build()));
+
+        ArgumentCaptor<LocalDateTime> leaseUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(gptSummaryJobRepository).renewLease(eq(1L), eq(0), leaseUntil.capture());
+        verify(gptSummaryJobRepository).renewLease(eq(2L), eq(3), any());
+        assertFalse(leaseUntil.getValue().isBefore(before.plusSeconds(300)));
+    }
+
+    private void assertBackoff(int retryCount, long expectedSeconds) {
+        clearInvocations(gptSummaryJobRepository);
+        when(gptSummaryJobRepository.scheduleRetry(eq(1L), eq(0), any())).thenReturn(1);
+        LocalDateTime before = LocalDateTime.now();
+
+        gptSummaryJobService.fail(job(0, retryCount));
+
+        ArgumentCaptor<LocalDateTime> nextRetryAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(gptSummaryJobRepository).scheduleRetry(eq(1L), eq(0), nextRetryAt.capture());
+        Duration delay = Duration.between(before, nextRetryAt.getValue());
+        assertTrue(delay.getSeconds() >= expectedSeconds && delay.getSeconds() <= expectedSeconds + 1,
+                "retry=" + retryCount + ", delay=" + delay);
+        verify(gptSummaryJobRepository, never()).release(any(), any());
+    }
+
+    private static GptSummaryJob job(int revision, int retryCount) {
+        return GptSummaryJob.builder().id(1L).newsId(1L).revision(revision).retryCount(retryCount).build();
+    }
+}
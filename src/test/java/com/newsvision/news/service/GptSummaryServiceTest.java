@@ -0,0 +1,252 @@
+package com.newsvision.news.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.newsvision.global.Utils.ContentHashUtil;
+import com.newsvision.news.entity.GptNews;
+import com.newsvision.news.entity.GptSummaryJob;
+import com.newsvision.news.entity.News;
+import com.newsvision.news.repository.GptNewsRepository;
+import com.newsvision.news.repository.NewsRepository;
+import com.newsvision.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GptSummaryServiceTest {
+
+    @InjectMocks
+    private GptSummaryService gptSummaryService;
+
+    @Mock
+    private GptNewsRepository gptNewsRepository;
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @Mock
+    private GptSummaryJobService gptSummaryJobService;
+
+    @Mock
+    private OpenAiClient openAiClient;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(gptSummaryService, "cacheSize", 100L);
+        ReflectionTestUtils.setField(gptSummaryService, "maxConcurrentStreams", 4);
+        ReflectionTestUtils.setField(gptSummaryService, "batchTokenBudget", 6000);
+        ReflectionTestUtils.setField(gptSummaryService, "batchMaxArticles", 8);
+        ReflectionTestUtils.setField(gptSummaryService, "outputTokensPerArticle", 300);
+        gptSummaryService.init();
+    }
+
+    @Test
+    void 묶음_요약_성공() throws IOException {
+        when(openAiClient.chat(anyString(), anyString(), anyInt(), eq(true)))
+                .thenReturn("{\"1\": \"요약1\", \"2\": \"요약2\"}");
+
+        Set<Long> failed = gptSummaryService.refreshSummaries(List.of(news(1L, "첫 번째 본문"), news(2L, "두 번째 본문")));
+
+        assertTrue(failed.isEmpty());
+        verify(openAiClient, never()).chat(anyString(), anyString());
+        verify(gptNewsRepository, times(2)).upsert(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void 응답이_JSON_이_아니면_나눠서_요약() throws IOException {
+        when(openAiClient.chat(anyString(), anyString(), anyInt(), eq(true))).thenReturn("요약할 수 없습니다");
+        when(openAiClient.chat(anyString(), anyString())).thenReturn("요약");
+
+        Set<Long> failed = gptSummaryService.refreshSummaries(List.of(news(1L, "첫 번째 본문"), news(2L, "두 번째 본문")));
+
+        assertTrue(failed.isEmpty());
+        verify(openAiClient, times(2)).chat(anyString(), anyString());
+    }
+
+    @Test
+    void 요청이_거부되면_나눠서_요약() throws IOException {
+        when(openAiClient.chat(anyString(), anyString(), anyInt(), eq(true)))
+                .thenThrow(new OpenAiClient.RequestRejectedException("OpenAI 요청 거부: 400"));
+        when(openAiClient.chat(anyString(), anyString())).thenReturn("요약");
+
+        Set<Long> failed = gptSummaryService.refreshSummaries(List.of(news(1L, "첫 번째 본문"), news(2L, "두 번째 본문")));
+
+        assertTrue(failed.isEmpty());
+        verify(openAiClient, times(2)).chat(anyString(), anyString());
+    }
+
+    @Test
+    void 일부만_빠지면_빠진_것만_다시_요청() throws IOException {
+        when(openAiClient.chat(anyString(), anyString(), anyInt(), eq(true)))
+                .thenReturn("{\"1\": \"요약1\", \"2\": \"요약2\"}");
+        when(openAiClient.chat(anyString(), eq("세 번째 본문"))).thenReturn("요약3");
+
+        Set<Long> failed = gptSummaryService.refreshSummaries(
+                List.of(news(1L, "첫 번째 본문"), news(2L, "두 번째 본문"), news(3L, "세 번째 본문")));
+
+        assertTrue(failed.isEmpty());
+        verify(openAiClient, times(1)).chat(anyString(), anyString(), anyInt(), eq(true));
+        verify(openAiClient, times(1)).chat(anyString(), anyString());
+    }
+
+    @Test
+    void 재시도_후에도_실패하면_나누지_않고_전부_실패() throws IOException {
+        when(openAiClient.chat(anyString(), anyString(), anyInt(), eq(true)))
+                .thenThrow(new IOException("OpenAI 응답 오류: 503"));
+
+        Set<Long> failed = gptSummaryService.refreshSummaries(List.of(news(1L, "첫 번째 본문"), news(2L, "두 번째 본문")));
+
+        assertEquals(Set.of(1L, 2L), failed);
+        verify(openAiClient, times(1)).chat(anyString(), anyString(), anyInt(), eq(true));
+        verify(openAiClient, never()).chat(anyString(), anyString());
+        verify(gptNewsRepository, never()).upsert(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void 본문_해시가_같으면_요약하지_않고_쓰지도_않음() {
+        GptNews current = GptNews.builder().newsId(1L).title("제목1").summary("기존 요약")
+                .contentHash(hash("첫 번째 본문")).build();
+        when(gptNewsRepository.findByNewsId(1L)).thenReturn(Optional.of(current));
+
+        Set<Long> failed = gptSummaryService.refreshSummaries(List.of(news(1L, "첫 번째 본문")));
+
+        assertTrue(failed.isEmpty());
+        verifyNoInteractions(openAiClient);
+        verify(gptNewsRepository, never()).save(any());
+        verify(gptNewsRepository, never()).upsert(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void 본문_해시가_같고_제목만_바뀌면_제목만_갱신() {
+        GptNews current = GptNews.builder().newsId(1L).title("예전 제목").summary("기존 요약")
+                .contentHash(hash("첫 번째 본문")).build();
+        when(gptNewsRepository.findByNewsId(1L)).thenReturn(Optional.of(current));
+
+        gptSummaryService.refreshSummaries(List.of(news(1L, "첫 번째 본문")));
+
+        verifyNoInteractions(openAiClient);
+        verify(gptNewsRepository).save(current);
+        assertEquals("제목1", current.getTitle());
+        assertEquals("기존 요약", current.getSummary());
+    }
+
+    @Test
+    void 같은_본문의_요약을_다른_뉴스에_재사용() {
+        String contentHash = hash("첫 번째 본문");
+        GptNews other = GptNews.builder().newsId(1L).summary("기존 요약").contentHash(contentHash).build();
+        when(gptNewsRepository.findFirstByContentHash(contentHash)).thenReturn(Optional.of(other));
+
+        Set<Long> failed = gptSummaryService.refreshSummaries(List.of(news(2L, "첫 번째 본문")));
+
+        assertTrue(failed.isEmpty());
+        verifyNoInteractions(openAiClient);
+        verify(gptNewsRepository).upsert(eq(2L), any(), eq("제목2"), eq("기존 요약"), eq(contentHash), any());
+    }
+
+    @Test
+    void 워커가_처리_중인_작업이면_스트림을_새로_만들지_않음() {
+        News news = adminNews(1L, "첫 번째 본문");
+        GptSummaryJob job = GptSummaryJob.builder().id(10L).newsId(1L).revision(0).build();
+        when(newsRepository.findAllWithUserAndCategoryByIdIn(List.of(1L))).thenReturn(List.of(news));
+        when(gptSummaryJobService.findByNewsId(1L)).thenReturn(Optional.of(job));
+        when(gptSummaryJobService.claim(job)).thenReturn(false);
+
+        gptSummaryService.streamSummary(1L);
+
+        verify(openAiClient, never()).streamChat(anyString(), anyString(), any());
+    }
+
+    @Test
+    void 스트림이_작업을_선점하고_저장_후_완료() {
+        News news = adminNews(1L, "첫 번째 본문");
+        GptSummaryJob job = GptSummaryJob.builder().id(10L).newsId(1L).revision(0).build();
+        when(newsRepository.findAllWithUserAndCategoryByIdIn(List.of(1L))).thenReturn(List.of(news));
+        when(gptSummaryJobService.findByNewsId(1L)).thenReturn(Optional.of(job));
+        when(gptSummaryJobService.claim(job)).thenReturn(true);
+
+        gptSummaryService.streamSummary(1L);
+
+        ArgumentCaptor<OpenAiClient.StreamListener> listener = ArgumentCaptor.forClass(OpenAiClient.StreamListener.class);
+        verify(openAiClient).streamChat(anyString(), eq("첫 번째 본문"), listener.capture());
+        listener.getValue().onDelta("요약");
+        listener.getValue().onComplete("요약");
+
+        verify(gptNewsRepository).upsert(eq(1L), any(), eq("제목1"), eq("요약"), anyString(), any());
+        verify(gptSummaryJobService).complete(job);
+        verify(gptSummaryJobService, never()).release(any());
+    }
+
+    @Test
+    void 스트림이_실패하면_작업_임대를_해제() {
+        News news = adminNews(1L, "첫 번째 본문");
+        GptSummaryJob job = GptSummaryJob.builder().id(10L).newsId(1L).revision(0).build();
+        when(newsRepository.findAllWithUserAndCategoryByIdIn(List.of(1L))).thenReturn(List.of(news));
+        when(gptSummaryJobService.findByNewsId(1L)).thenReturn(Optional.of(job));
+        when(gptSummaryJobService.claim(job)).thenReturn(true);
+
+        gptSummaryService.streamSummary(1L);
+
+        ArgumentCaptor<OpenAiClient.StreamListener> listener = ArgumentCaptor.forClass(OpenAiClient.StreamListener.class);
+        verify(openAiClient).streamChat(anyString(), anyString(), listener.capture());
+        listener.getValue().onError(new IOException("OpenAI 응답 오류: 503"));
+
+        verify(gptSummaryJobService).release(job);
+        verify(gptSummaryJobService, never()).complete(any());
+        verify(gptNewsRepository, never()).upsert(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void 스트림_호출이_바로_실패해도_한도와_작업_임대를_돌려줌() {
+        ReflectionTestUtils.setField(gptSummaryService, "maxConcurrentStreams", 1);
+        gptSummaryService.init();
+        News news = adminNews(1L, "첫 번째 본문");
+        GptSummaryJob job = GptSummaryJob.builder().id(10L).newsId(1L).revision(0).build();
+        when(newsRepository.findAllWithUserAndCategoryByIdIn(List.of(1L))).thenReturn(List.of(news));
+        when(gptSummaryJobService.findByNewsId(1L)).thenReturn(Optional.of(job));
+        when(gptSummaryJobService.claim(job)).thenReturn(true);
+        doThrow(new IllegalStateException("dispatcher 종료")).doNothing()
+                .when(openAiClient).streamChat(anyString(), anyString(), any());
+
+        gptSummaryService.streamSummary(1L);
+        gptSummaryService.streamSummary(1L);
+
+        verify(gptSummaryJobService).release(job);
+        verify(openAiClient, times(2)).streamChat(anyString(), anyString(), any());
+    }
+
+    private static String hash(String content) {
+        return ContentHashUtil.sha256(ContentHashUtil.normalize(content));
+    }
+
+    private static News adminNews(Long id, String content) {
+        News news = news(id, content);
+        news.setUser(User.builder().role(User.Role.ROLE_ADMIN).build());
+        return news;
+    }
+
+    private static News news(Long id, String content) {
+        News news = new News();
+        news.setId(id);
+        news.setTitle("제목" + id);
+        news.setContent(content);
+        return news;
+    }
+}
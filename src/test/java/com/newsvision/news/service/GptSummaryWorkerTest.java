@@ -0,0 +1,143 @@
+package com.newsvision.news.service;
+
+import com.newsvision.news.entity.GptSummaryJob;
+import com.newsvision.news.entity.News;
+import com.newsvision.news.repository.NewsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GptSummaryWorkerTest {
+
+    @InjectMocks
+    private GptSummaryWorker gptSummaryWorker;
+
+    @Mock
+    private GptSummaryJobService gptSummaryJobService;
+
+    @Mock
+    private GptSummaryExecutor gptSummaryExecutor;
+
+    @Mock
+    private NewsRepository newsRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(gptSummaryWorker, "batchSize", 50);
+        ReflectionTestUtils.setField(gptSummaryWorker, "maxArticles", 2);
+    }
+
+    @Test
+    void 여유가_없으면_가져오지_않음() {
+        when(gptSummaryExecutor.availableSlots()).thenReturn(0);
+
+        gptSummaryWorker.drain();
+
+        verify(gptSummaryJobService, never()).findReady(anyInt());
+    }
+
+    @Test
+    void 선점한_작업만_묶어서_요약하고_결과대로_완료_실패() {
+        GptSummaryJob a = job(1L), b = job(2L), c = job(3L), taken = job(4L);
+        when(gptSummaryExecutor.availableSlots()).thenReturn(16);
+        when(gptSummaryJobService.findReady(32)).thenReturn(List.of(a, b, c, taken));
+        when(gptSummaryJobService.claim(any())).thenAnswer(inv -> inv.getArgument(0) != taken);
+        when(newsRepository.findAllById(any())).thenReturn(List.of(news(1L), news(2L), news(3L)));
+        when(gptSummaryExecutor.submit(any())).thenReturn(
+                CompletableFuture.completedFuture(Set.of(2L)),
+                CompletableFuture.completedFuture(Set.of()));
+
+        gptSummaryWorker.drain();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<News>> groups = ArgumentCaptor.forClass((Class) List.class);
+        verify(gptSummaryExecutor, times(2)).submit(groups.capture());
+        assertEquals(List.of(2, 1), groups.getAllValues().stream().map(List::size).toList());
+        verify(gptSummaryJobService).complete(a);
+        verify(gptSummaryJobService).fail(b);
+        verify(gptSummaryJobService).complete(c);
+        verify(gptSummaryJobService, never()).complete(taken);
+        verify(gptSummaryJobService, never()).fail(taken);
+    }
+
+    @Test
+    void 삭제된_뉴스는_요약_없이_작업만_정리() {
+        GptSummaryJob job = job(1L);
+        when(gptSummaryExecutor.availableSlots()).thenReturn(1);
+        when(gptSummaryJobService.findReady(2)).thenReturn(List.of(job));
+        when(gptSummaryJobService.claim(job)).thenReturn(true);
+        when(newsRepository.findAllById(any())).thenReturn(List.of());
+
+        gptSummaryWorker.drain();
+
+        verify(gptSummaryJobService).complete(job);
+        verify(gptSummaryExecutor, never()).submit(any());
+    }
+
+    @Test
+    void 묶음이_예외로_끝나면_전부_재시도() {
+        GptSummaryJob a = job(1L), b = job(2L);
+        when(gptSummaryExecutor.availableSlots()).thenReturn(1);
+        when(gptSummaryJobService.findReady(2)).thenReturn(List.of(a, b));
+        when(gptSummaryJobService.claim(any())).thenReturn(true);
+        when(newsRepository.findAllById(any())).thenReturn(List.of(news(1L), news(2L)));
+        when(gptSummaryExecutor.submit(any())).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("db")));
+
+        gptSummaryWorker.drain();
+
+        verify(gptSummaryJobService).fail(a);
+        verify(gptSummaryJobService).fail(b);
+        verify(gptSummaryJobService, never()).complete(any());
+    }
+
+    @Test
+    void 처리_중인_동안만_임대를_연장() {
+        GptSummaryJob job = job(1L);
+        CompletableFuture<Set<Long>> result = new CompletableFuture<>();
+        when(gptSummaryExecutor.availableSlots()).thenReturn(1);
+        when(gptSummaryJobService.findReady(2)).thenReturn(List.of(job));
+        when(gptSummaryJobService.claim(job)).thenReturn(true);
+        when(newsRepository.findAllById(any())).thenReturn(List.of(news(1L)));
+        when(gptSummaryExecutor.submit(any())).thenReturn(result);
+
+        gptSummaryWorker.drain();
+        gptSummaryWorker.renewLeases();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<GptSummaryJob>> renewed = ArgumentCaptor.forClass((Class) Collection.class);
+        verify(gptSummaryJobService).renewLeases(renewed.capture());
+        assertEquals(List.of(job), List.copyOf(renewed.getValue()));
+
+        result.complete(Set.of());
+        clearInvocations(gptSummaryJobService);
+        gptSummaryWorker.renewLeases();
+
+        verify(gptSummaryJobService, never()).renewLeases(any());
+    }
+
+    private static GptSummaryJob job(Long newsId) {
+        return GptSummaryJob.builder().id(newsId * 10).newsId(newsId).revision(0).build();
+    }
+
+    private static News news(Long id) {
+        News news = new News();
+        news.setId(id);
+        news.setContent("본문" + id);
+        return news;
+    }
+}
@@ -0,0 +1,185 @@
+package com.newsvision.news.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// base-url 을 로컬 MockWebServer 로 바꿔서 실제 HTTP 요청/응답으로 확인
+class OpenAiClientTest {
+    private static final String COMPLETION = "{\"choices\": [{\"message\": {\"content\": \" 요약입니다 \"}}], \"usage\": {\"total_tokens\": 30}}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MockWebServer server;
+    private OpenAiClient openAiClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+
+        openAiClient = new OpenAiClient(objectMapper);
+        ReflectionTestUtils.setField(openAiClient, "apiKey", "test-key");
+        ReflectionTestUtils.setField(openAiClient, "baseUrl", server.url("").toString().replaceAll("/$", ""));
+        ReflectionTestUtils.setField(openAiClient, "model", "gpt-test");
+        ReflectionTestUtils.setField(openAiClient, "maxTokens", 400);
+        ReflectionTestUtils.setField(openAiClient, "requestsPerMinute", 6000L);
+        ReflectionTestUtils.setField(openAiClient, "tokensPerMinute", 1_000_000L);
+        ReflectionTestUtils.setField(openAiClient, "maxRetries", 2);
+        ReflectionTestUtils.setField(openAiClient, "baseDelayMs", 1L);
+        ReflectionTestUtils.setField(openAiClient, "maxDelayMs", 10L);
+        ReflectionTestUtils.setField(openAiClient, "maxConnections", 4);
+        ReflectionTestUtils.setField(openAiClient, "streamReservedRatio", 0.5);
+        openAiClient.init();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        openAiClient.shutdown();
+        server.shutdown();
+    }
+
+    @Test
+    void 요약_응답의_본문을_반환() throws Exception {
+        server.enqueue(new MockResponse().setBody(COMPLETION));
+
+        assertEquals("요약입니다", openAiClient.chat("system", "본문"));
+
+        RecordedRequest request = server.takeRequest();
+        assertEquals("/v1/chat/completions", request.getPath());
+        assertEquals("Bearer test-key", request.getHeader("Authorization"));
+        JsonNode body = objectMapper.readTree(request.getBody().readUtf8());
+        assertEquals("gpt-test", body.path("model").asText());
+        assertEquals(400, body.path("max_tokens").asInt());
+        assertEquals("본문", body.path("messages").path(1).path("content").asText());
+        assertTrue(body.path("response_format").isMissingNode());
+    }
+
+    @Test
+    void JSON_출력이면_response_format_지정() throws Exception {
+        server.enqueue(new MockResponse().setBody(COMPLETION));
+
+        openAiClient.chat("JSON 으로 답해줘", "[]", 900, true);
+
+        JsonNode body = objectMapper.readTree(server.takeRequest().getBody().readUtf8());
+        assertEquals("json_object", body.path("response_format").path("type").asText());
+        assertEquals(900, body.path("max_tokens").asInt());
+    }
+
+    @Test
+    void 한도_초과_응답은_재시도() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(429).setHeader("Retry-After", "0"));
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setBody(COMPLETION));
+
+        assertEquals("요약입니다", openAiClient.chat("system", "본문"));
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    void 재시도_한도를_넘으면_IOException() {
+        for (int i = 0; i < 3; i++) {
+            server.enqueue(new MockResponse().setResponseCode(500));
+        }
+
+        IOException e = assertThrows(IOException.class, () -> openAiClient.chat("system", "본문"));
+
+        assertFalse(e instanceof OpenAiClient.RequestRejectedException);
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    void 요청_거부는_재시도하지_않음() {
+        server.enqueue(new MockResponse().setResponseCode(400)
+                .setBody("{\"error\": {\"code\": \"context_length_exceeded\"}}"));
+
+        assertThrows(OpenAiClient.RequestRejectedException.class, () -> openAiClient.chat("system", "본문"));
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    void 스트림은_글자를_순서대로_전달() throws Exception {
+        server.enqueue(new MockResponse()
+                .setHeader("Content-Type", "text/event-stream")
+                .setBody("""
+                        data: {"choices": [{"delta": {"content": "요약"}}]}
+
+                        data: {"choices": [{"delta": {"content": "입니다"}}]}
+
+                        data: {"choices": [], "usage": {"total_tokens": 30}}
+
+                        data: [DONE]
+
+                        """));
+        List<String> deltas = new ArrayList<>();
+        CompletableFuture<String> completed = new CompletableFuture<>();
+
+        openAiClient.streamChat("system", "본문", new OpenAiClient.StreamListener() {
+            @Override
+            public void onDelta(String delta) {
+                deltas.add(delta);
+            }
+
+            @Override
+            public void onComplete(String text) {
+                completed.complete(text);
+            }
+
+            @Override
+            public void onError(Exception e) {
+                completed.completeExceptionally(e);
+            }
+        });
+
+        assertEquals("요약입니다", completed.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of("요약", "입니다"), deltas);
+        JsonNode body = objectMapper.readTree(server.takeRequest().getBody().readUtf8());
+        assertTrue(body.path("stream").asBoolean());
+    }
+
+    @Test
+    void 토큰_한도로_스트림을_못_보내면_요청_한도를_돌려줌() throws Exception {
+        openAiClient.shutdown();
+        ReflectionTestUtils.setField(openAiClient, "requestsPerMinute", 2L);
+        ReflectionTestUtils.setField(openAiClient, "tokensPerMinute", 100L);
+        openAiClient.init();
+
+        // 요청 한도 2, 예약분 1 이라 환불이 없으면 두 번째 호출은 요청 한도에서 막힌다
+        assertEquals("OpenAI 토큰 한도 초과", streamError().getMessage());
+        assertEquals("OpenAI 토큰 한도 초과", streamError().getMessage());
+        assertEquals(0, server.getRequestCount());
+    }
+
+    private Exception streamError() throws Exception {
+        CompletableFuture<Exception> failed = new CompletableFuture<>();
+        openAiClient.streamChat("system", "본문", new OpenAiClient.StreamListener() {
+            @Override
+            public void onDelta(String delta) {
+            }
+
+            @Override
+            public void onComplete(String text) {
+                failed.completeExceptionally(new AssertionError("완료되면 안 됨"));
+            }
+
+            @Override
+            public void onError(Exception e) {
+                failed.complete(e);
+            }
+        });
+        return failed.get(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,38 @@
+package com.newsvision.news.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SummaryBatchPackerTest {
+    private static final ToIntFunction<Integer> COST = Integer::intValue;
+
+    @Test
+    void 큰_것부터_들어가는_첫_묶음에_넣기() {
+        List<List<Integer>> batches = SummaryBatchPacker.pack(List.of(1, 3, 5, 2, 4, 3), COST, 8, 8);
+
+        assertEquals(List.of(List.of(5, 3), List.of(4, 3, 1), List.of(2)), batches);
+    }
+
+    @Test
+    void 최대_개수를_넘지_않음() {
+        List<List<Integer>> batches = SummaryBatchPacker.pack(List.of(1, 1, 1, 1, 1), COST, 100, 2);
+
+        assertEquals(List.of(List.of(1, 1), List.of(1, 1), List.of(1)), batches);
+    }
+
+    @Test
+    void 혼자_예산을_넘으면_단독_묶음() {
+        List<List<Integer>> batches = SummaryBatchPacker.pack(List.of(1, 10), COST, 5, 8);
+
+        assertEquals(List.of(List.of(10), List.of(1)), batches);
+    }
+
+    @Test
+    void 빈_목록() {
+        assertTrue(SummaryBatchPacker.pack(List.<Integer>of(), COST, 10, 8).isEmpty());
+    }
+}
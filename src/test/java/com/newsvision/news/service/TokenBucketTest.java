@@ -0,0 +1,65 @@
+package com.newsvision.news.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    @Test
+    void 처음에는_가득_차_있음() {
+        TokenBucket bucket = new TokenBucket(10, 0.001);
+
+        assertTrue(bucket.tryAcquire(10, 0));
+        assertFalse(bucket.tryAcquire(1, 0));
+    }
+
+    @Test
+    void 남겨_둘_몫은_차감하지_않음() {
+        TokenBucket bucket = new TokenBucket(10, 0.001);
+
+        assertTrue(bucket.tryAcquire(5, 5));
+        assertFalse(bucket.tryAcquire(1, 5));
+        assertTrue(bucket.tryAcquire(1, 0));
+    }
+
+    @Test
+    void 실제_사용량이_많으면_음수_잔량() {
+        TokenBucket bucket = new TokenBucket(10, 0.001);
+        assertTrue(bucket.tryAcquire(5, 0));
+
+        bucket.adjust(20);
+        assertFalse(bucket.tryAcquire(1, 0));
+
+        bucket.adjust(-100);
+        assertTrue(bucket.tryAcquire(10, 0));
+    }
+
+    @Test
+    void 모자라면_채워질_때까지_기다림() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1, 100);
+        bucket.acquire(1);
+
+        long startedAt = System.nanoTime();
+        bucket.acquire(1);
+
+        assertTrue(System.nanoTime() - startedAt >= TimeUnit.MILLISECONDS.toNanos(5));
+    }
+
+    @Test
+    void 용량보다_큰_요청은_용량만큼만() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(5, 0.001);
+
+        bucket.acquire(1_000);
+
+        assertFalse(bucket.tryAcquire(1, 0));
+    }
+
+    @Test
+    void 잘못된_설정은_거부() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 0));
+    }
+}
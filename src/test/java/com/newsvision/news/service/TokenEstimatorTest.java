@@ -0,0 +1,35 @@
+package com.newsvision.news.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenEstimatorTest {
+
+    @Test
+    void 빈_문자열은_0() {
+        assertEquals(0, TokenEstimator.estimate(null));
+        assertEquals(0, TokenEstimator.estimate(""));
+        assertEquals(0, TokenEstimator.estimate("   "));
+    }
+
+    @Test
+    void 영문_숫자는_4글자당_1토큰() {
+        assertEquals(1, TokenEstimator.estimate("abcd"));
+        assertEquals(2, TokenEstimator.estimate("abcde"));
+        assertEquals(2, TokenEstimator.estimate("ab cd"));
+        assertEquals(1, TokenEstimator.estimate("2024"));
+    }
+
+    @Test
+    void 한글_한자는_글자당_1_5토큰() {
+        assertEquals(3, TokenEstimator.estimate("뉴스"));
+        assertEquals(2, TokenEstimator.estimate("新"));
+    }
+
+    @Test
+    void 섞인_문장() {
+        // hello(2) + 뉴스(3) + !(1)
+        assertEquals(6, TokenEstimator.estimate("hello 뉴스!"));
+    }
+}